@@ -9,6 +9,7 @@ rootProject.name = "SnowLib"
 
 include("snowlib-core")
 include("snowlib-kotlin")
+include("snowlib-processor")
 include("mappings:v1_21_R1")
 include("mappings:v1_21_R2")
 include("mappings:v1_21_R3")
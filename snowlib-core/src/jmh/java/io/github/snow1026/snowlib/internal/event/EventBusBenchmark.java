@@ -0,0 +1,100 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.api.event.EventBus;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.RegisteredListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventBus#post(Object)}와 {@code PluginManager.callEvent}의 전달 경로를 비교합니다.
+ * <p>
+ * {@code callEvent}는 실행 중인 서버 없이는 호출할 수 없으므로, {@code SimplePluginManager}가 하는 일을 그대로 옮겨 측정합니다.
+ * 플러그인 관리자 잠금 안에서 {@link HandlerList}의 구워 둔 배열을 순회하고,
+ * 플러그인 활성 여부를 확인한 뒤 {@link RegisteredListener#callEvent(Event)}를 호출합니다.
+ * 비동기 여부와 메인 스레드 검사는 서버 구현에 있어 포함하지 않으므로 실제 {@code callEvent}는 이보다 느립니다.
+ * 플러그인은 프록시라서, 활성 여부는 {@code JavaPlugin}처럼 필드 하나를 읽는 것으로 대신합니다.
+ * </p>
+ * <p>
+ * {@code Contended} 벤치마크는 같은 버스와 잠금에 여러 스레드가 동시에 발행하는 경우입니다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventBusBenchmark {
+    @Param({"1", "8"})
+    public int listeners;
+
+    private final Object pluginManager = new Object();
+    private boolean enabled = true;
+    private BenchEvent event;
+    private EventBus bus;
+
+    @Setup
+    public void setup() {
+        Plugin plugin = Fakes.of(Plugin.class);
+        event = new BenchEvent();
+        bus = EventBus.create(plugin);
+
+        Listener listener = new Listener() {};
+        for (int i = 0; i < listeners; i++) {
+            BenchEvent.handlers.register(new RegisteredListener(listener, (l, e) -> {}, EventPriority.NORMAL, plugin, false));
+            bus.listen(BenchEvent.class, e -> {}).register();
+        }
+    }
+
+    @Benchmark
+    public void callEvent() throws EventException {
+        synchronized (pluginManager) {
+            for (RegisteredListener registration : event.getHandlers().getRegisteredListeners()) {
+                if (!enabled) continue;
+                registration.callEvent(event);
+            }
+        }
+    }
+
+    @Benchmark
+    public int post() {
+        return bus.post(event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void callEventContended() throws EventException {
+        callEvent();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int postContended() {
+        return post();
+    }
+
+    private static final class BenchEvent extends Event {
+        private static final HandlerList handlers = new HandlerList();
+
+        @Override
+        public HandlerList getHandlers() {
+            return handlers;
+        }
+
+        public static HandlerList getHandlerList() {
+            return handlers;
+        }
+    }
+}
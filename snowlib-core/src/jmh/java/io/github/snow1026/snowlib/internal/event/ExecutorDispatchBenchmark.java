@@ -0,0 +1,174 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 디스패처의 호출 지점에서 실행기 타입이 하나일 때와 여럿일 때를 비교합니다.
+ * <p>
+ * {@code flag}는 경로를 final 필드로 나누는 현재 {@link SnowEventExecutor}를 디스패처처럼 배열로 순회합니다.
+ * {@code subclasses}는 이전 설계처럼 옵션 없음/필터/그 밖의 옵션을 하위 클래스로 나눈 실행기를 같은 방식으로 순회합니다.
+ * {@code kinds}가 1이면 모든 구독이 필터만 사용하고, 3이면 세 종류가 섞여 하위 클래스 쪽 호출 지점이 메가모픽이 됩니다.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExecutorDispatchBenchmark {
+    private static final int SUBSCRIPTIONS = 12;
+
+    @Param({"1", "3"})
+    public int kinds;
+
+    private BenchEvent event;
+    private SnowEventExecutor<BenchEvent>[] flag;
+    private Split<BenchEvent>[] subclasses;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        event = new BenchEvent();
+        flag = new SnowEventExecutor[SUBSCRIPTIONS];
+        subclasses = new Split[SUBSCRIPTIONS];
+
+        Consumer<BenchEvent> handler = e -> {};
+        Predicate<BenchEvent> filter = e -> e != null;
+        for (int i = 0; i < SUBSCRIPTIONS; i++) {
+            int kind = kinds == 1 ? 1 : i % kinds;
+            boolean filtered = kind != 0;
+            boolean configured = kind == 2;
+            // 강제 취소는 디스패처와 타이머 없이 전체 검사 경로를 타게 하는 옵션입니다.
+            flag[i] = SnowEventExecutor.create(null, EventRoute.GLOBAL, handler, filtered ? filter : null, configured, 0, null, null, null, new FailureTracker(), null, null);
+            subclasses[i] = switch (kind) {
+                case 0 -> new Plain<>(handler);
+                case 1 -> new Filtered<>(handler, filter);
+                default -> new Configured<>(handler, filter);
+            };
+        }
+    }
+
+    @Benchmark
+    public BenchEvent flag() {
+        for (SnowEventExecutor<BenchEvent> executor : flag) {
+            executor.dispatch(event);
+        }
+        return event;
+    }
+
+    @Benchmark
+    public BenchEvent subclasses() {
+        for (Split<BenchEvent> executor : subclasses) {
+            executor.dispatch(event);
+        }
+        return event;
+    }
+
+    // 이전 설계의 실행기입니다. 각 경로는 현재 SnowEventExecutor의 같은 경로와 같은 일을 합니다.
+    private abstract static class Split<T extends Event> {
+        final AtomicBoolean active = new AtomicBoolean(true);
+        final AtomicInteger callCount = new AtomicInteger();
+        final Consumer<T> handler;
+
+        Split(Consumer<T> handler) {
+            this.handler = handler;
+        }
+
+        abstract void dispatch(T e);
+    }
+
+    private static final class Plain<T extends Event> extends Split<T> {
+        Plain(Consumer<T> handler) {
+            super(handler);
+        }
+
+        @Override
+        void dispatch(T e) {
+            if (!active.get()) return;
+            try {
+                handler.accept(e);
+                callCount.incrementAndGet();
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    private static final class Filtered<T extends Event> extends Split<T> {
+        private final Predicate<T> filter;
+
+        Filtered(Consumer<T> handler, Predicate<T> filter) {
+            super(handler);
+            this.filter = filter;
+        }
+
+        @Override
+        void dispatch(T e) {
+            if (!active.get()) return;
+            try {
+                if (!filter.test(e)) return;
+                handler.accept(e);
+                callCount.incrementAndGet();
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    private static final class Configured<T extends Event> extends Split<T> {
+        private final Predicate<T> filter;
+
+        Configured(Consumer<T> handler, Predicate<T> filter) {
+            super(handler);
+            this.filter = filter;
+        }
+
+        @Override
+        void dispatch(T e) {
+            if (!active.get()) return;
+            try {
+                if (!filter.test(e)) return;
+                handler.accept(e);
+                callCount.incrementAndGet();
+                if (e instanceof Cancellable c) c.setCancelled(true);
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    private static final class BenchEvent extends Event implements Cancellable {
+        private static final HandlerList handlers = new HandlerList();
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+        @Override
+        public HandlerList getHandlers() {
+            return handlers;
+        }
+
+        public static HandlerList getHandlerList() {
+            return handlers;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * 벤치마크에서 서버 없이 쓸 수 있는 빈 구현을 만듭니다. 모든 메서드는 기본값을 반환합니다.
+ */
+final class Fakes {
+    private Fakes() {}
+
+    static <T> T of(Class<T> type) {
+        Object fake = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> type.getSimpleName();
+            default -> {
+                Class<?> result = method.getReturnType();
+                if (result == boolean.class) yield false;
+                if (result == int.class) yield 0;
+                if (result == long.class) yield 0L;
+                if (result == double.class) yield 0D;
+                if (result == float.class) yield 0F;
+                yield null;
+            }
+        });
+        return type.cast(fake);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.api.event.Filters;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 필터를 목록 그대로 순회하던 이전 경로와 {@link FilterChain#compile(List)}로 합성한 조건식을 비교합니다.
+ * <p>
+ * 목록 경로는 플레이어/블록 필터마다 대상을 다시 추출하고, 합성 경로는 이벤트마다 한 번만 추출합니다.
+ * 프록시 호출 비용이 차이를 가리지 않도록 대상 필터는 대상 객체의 메서드를 부르지 않습니다.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FilterChainBenchmark {
+    private PlayerInteractEvent event;
+    private List<Predicate<PlayerInteractEvent>> filters;
+    private Predicate<PlayerInteractEvent> compiled;
+
+    @Setup
+    public void setup() {
+        event = new PlayerInteractEvent(Fakes.of(Player.class), Action.RIGHT_CLICK_BLOCK, null, Fakes.of(Block.class), BlockFace.UP);
+        filters = List.of(
+                FilterChain.player(p -> p != null, FilterChain.Cost.EXPENSIVE),
+                FilterChain.block(b -> b != null, FilterChain.Cost.NORMAL),
+                FilterChain.player(p -> p != null, FilterChain.Cost.NORMAL),
+                e -> e.getAction() == Action.RIGHT_CLICK_BLOCK,
+                Filters.isPlayer(),
+                Filters.ignoreCancelled());
+        compiled = FilterChain.compile(filters);
+    }
+
+    @Benchmark
+    public boolean list() {
+        for (Predicate<PlayerInteractEvent> filter : filters) {
+            if (!filter.test(event)) return false;
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return compiled.test(event);
+    }
+}
@@ -1,16 +1,29 @@
 package io.github.snow1026.snowlib;
 
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
 import io.github.snow1026.snowlib.api.attribute.SnowAttribute;
 import io.github.snow1026.snowlib.api.command.Sommand;
 import io.github.snow1026.snowlib.api.enchantment.SnowEnchantment;
+import io.github.snow1026.snowlib.api.event.EventSubscription;
+import io.github.snow1026.snowlib.api.event.Events;
 import io.github.snow1026.snowlib.api.gui.GUIListener;
+import io.github.snow1026.snowlib.internal.event.EventBatcher;
+import io.github.snow1026.snowlib.internal.event.EventSubscriptions;
+import io.github.snow1026.snowlib.internal.event.SnowEventBus;
+import io.github.snow1026.snowlib.internal.event.KeyedCooldown;
 import io.github.snow1026.snowlib.internal.registry.SnowRegistryAccess;
 import io.github.snow1026.snowlib.internal.task.SnowTasker;
+import io.github.snow1026.snowlib.internal.task.SnowTicker;
+import io.github.snow1026.snowlib.internal.task.TaskTracker;
+import io.github.snow1026.snowlib.internal.task.VirtualPool;
 import io.github.snow1026.snowlib.registry.SnowRegistry;
 import io.github.snow1026.snowlib.registry.RegistryAccess;
 import io.github.snow1026.snowlib.registry.RegistryKey;
 import io.github.snow1026.snowlib.registry.internal.*;
 import io.github.snow1026.snowlib.utils.reflect.Reflection;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public final class SnowLibrary extends JavaPlugin {
@@ -21,13 +34,23 @@ public final class SnowLibrary extends JavaPlugin {
     public void onEnable() {
         snowlibrary = this;
         SnowTasker.init(snowlibrary());
+        SnowTicker.start(snowlibrary());
         Reflection.clearCache();
 
         getServer().getPluginManager().registerEvents(new GUIListener(), snowlibrary());
+        Events.listen(PluginDisableEvent.class, event -> {
+            EventSubscriptions.unregisterAll(event.getPlugin());
+            SnowEventBus.clearAll(event.getPlugin());
+            TaskTracker.cancelAll(event.getPlugin());
+            VirtualPool.shutdown(event.getPlugin());
+        }).priority(EventPriority.MONITOR).register();
+        Events.listen(PlayerQuitEvent.class, event -> KeyedCooldown.evictAll(event.getPlayer().getUniqueId())).priority(EventPriority.MONITOR).register();
+        Events.listen(ServerTickEndEvent.class, event -> EventBatcher.flushDue()).priority(EventPriority.MONITOR).register();
 
         SnowRegistryAccess.registerRegistry(RegistryKey.COMMAND, (SnowRegistry<Sommand>) Reflection.newInstance(CommandRegistry.class));
         SnowRegistryAccess.registerRegistry(RegistryKey.ATTRIBUTE, (SnowRegistry<SnowAttribute>) Reflection.newInstance(AttributeRegistry.class));
         SnowRegistryAccess.registerRegistry(RegistryKey.ENCHANTMENT, (SnowRegistry<SnowEnchantment>) Reflection.newInstance(EnchantmentRegistry.class));
+        SnowRegistryAccess.registerRegistry(RegistryKey.EVENT, (SnowRegistry<EventSubscription>) Reflection.newInstance(EventSubscriptionRegistry.class));
     }
 
     public static SnowLibrary snowlibrary() {
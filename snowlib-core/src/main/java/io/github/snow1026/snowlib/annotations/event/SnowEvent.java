@@ -37,4 +37,7 @@ public @interface SnowEvent {
 
     /** 만료 시간 (초 단위, 0은 만료 없음) */
     long expireSeconds() default 0;
+
+    /** 이벤트 주체 플레이어에게 필요한 권한 (비어있을 경우 검사하지 않음, 같은 리스너의 메서드끼리는 이벤트마다 한 번만 검사) */
+    String permission() default "";
 }
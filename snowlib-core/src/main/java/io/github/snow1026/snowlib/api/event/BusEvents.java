@@ -0,0 +1,87 @@
+package io.github.snow1026.snowlib.api.event;
+
+import org.bukkit.event.EventPriority;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * {@link EventBus} 구독을 설정하는 빌더입니다. {@link Events}와 같은 방식으로 사용합니다.
+ *
+ * @param <E> 이벤트 타입
+ */
+public interface BusEvents<E> {
+
+    /**
+     * 실행 우선순위를 설정합니다. {@link EventPriority#LOWEST}부터 {@link EventPriority#MONITOR} 순서로 실행됩니다.
+     *
+     * @param priority 우선순위 (기본값: NORMAL)
+     * @return 빌더 인스턴스
+     */
+    BusEvents<E> priority(EventPriority priority);
+
+    /**
+     * 조건을 만족하는 이벤트만 처리하도록 필터를 추가합니다.
+     *
+     * @param filter 필터 조건
+     * @return 빌더 인스턴스
+     */
+    BusEvents<E> filter(Predicate<E> filter);
+
+    /**
+     * 최대 실행 횟수를 설정합니다. 도달하면 구독이 해제됩니다.
+     *
+     * @param count 최대 실행 횟수 (-1은 무제한)
+     * @return 빌더 인스턴스
+     */
+    BusEvents<E> limit(int count);
+
+    /**
+     * 한 번만 실행되도록 설정합니다.
+     *
+     * @return 빌더 인스턴스
+     */
+    BusEvents<E> once();
+
+    /**
+     * 지정한 시간이 지나면 구독이 해제되도록 설정합니다.
+     *
+     * @param duration 유지 시간
+     * @return 빌더 인스턴스
+     */
+    BusEvents<E> expireAfter(Duration duration);
+
+    /**
+     * 핸들러를 발행한 스레드 대신 가상 스레드에서 실행합니다.
+     * 비동기 구독 사이, 그리고 같은 구독의 호출 사이의 실행 순서는 보장되지 않습니다.
+     * 버스마다 동시에 실행되는 비동기 핸들러는 64개로 제한되며, 나머지는 대기열에서 차례를 기다립니다.
+     *
+     * @return 빌더 인스턴스
+     */
+    BusEvents<E> async();
+
+    /**
+     * 핸들러 실행 중 예외가 발생했을 때 처리할 핸들러를 설정합니다.
+     * 설정하지 않을 경우 플러그인 로거로 출력합니다.
+     *
+     * @param exceptionHandler 예외 처리 컨슈머
+     * @return 빌더 인스턴스
+     */
+    BusEvents<E> exceptionHandler(BiConsumer<E, Throwable> exceptionHandler);
+
+    /**
+     * 등록될 구독을 지정한 그룹에 포함시킵니다.
+     *
+     * @param group 구독을 묶을 그룹
+     * @return 빌더 인스턴스
+     */
+    BusEvents<E> group(SubscriptionGroup group);
+
+    /**
+     * 설정된 옵션으로 구독을 등록합니다.
+     *
+     * @return 등록된 구독
+     */
+    Subscription register();
+}
@@ -0,0 +1,64 @@
+package io.github.snow1026.snowlib.api.event;
+
+import io.github.snow1026.snowlib.internal.event.SnowEventBus;
+import org.bukkit.plugin.Plugin;
+
+import java.util.function.Consumer;
+
+/**
+ * 플러그인 내부 도메인 이벤트(퀘스트 진행, 경제 변동 등)를 위한 가벼운 타입 기반 이벤트 버스입니다.
+ * <p>
+ * Bukkit {@code Event}를 상속할 필요가 없으며, {@code HandlerList}나 {@code callEvent}의 동기화, 타이밍 측정을 거치지 않습니다.
+ * 발행된 객체는 그 클래스와 모든 상위 클래스/인터페이스를 구독한 핸들러에게 우선순위 순서대로 전달되고,
+ * 클래스별 전달 대상 목록은 처음 발행될 때 계산되어 구독이 바뀌기 전까지 재사용됩니다.
+ * 발행은 잠금 없이 어느 스레드에서든 가능하며, 동기 핸들러는 발행한 스레드에서 실행됩니다.
+ * 소유 플러그인이 비활성화되면 버스의 모든 구독이 해제되고, 아직 시작되지 않은 비동기 전달은 버려집니다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * EventBus bus = EventBus.create(plugin);
+ *
+ * bus.listen(QuestProgress.class, progress -> updateScoreboard(progress))
+ *     .filter(progress -> progress.completed())
+ *     .register();
+ *
+ * bus.post(new QuestProgress(player, quest, true));
+ * }</pre>
+ */
+public interface EventBus {
+
+    /**
+     * 새 이벤트 버스를 생성합니다.
+     *
+     * @param plugin 버스를 소유할 플러그인 (예외 로그와 비동기 전달에 사용)
+     * @return 생성된 버스
+     */
+    static EventBus create(Plugin plugin) {
+        return new SnowEventBus(plugin);
+    }
+
+    /**
+     * 특정 타입의 이벤트에 대한 구독 빌더를 생성합니다.
+     * 하위 타입의 이벤트도 함께 전달됩니다.
+     *
+     * @param type    구독할 이벤트 타입 (클래스 또는 인터페이스)
+     * @param handler 이벤트 발생 시 실행할 로직
+     * @param <E>     이벤트 타입
+     * @return 설정을 위한 빌더 인스턴스
+     */
+    <E> BusEvents<E> listen(Class<E> type, Consumer<E> handler);
+
+    /**
+     * 이벤트를 발행합니다.
+     *
+     * @param event 발행할 이벤트
+     * @return 이벤트를 전달받은(비동기 전달은 예약된) 구독 수
+     */
+    int post(Object event);
+
+    /**
+     * 버스의 모든 구독을 해제합니다. 아직 시작되지 않은 비동기 전달은 버려집니다.
+     */
+    void clear();
+}
@@ -0,0 +1,69 @@
+package io.github.snow1026.snowlib.api.event;
+
+import io.github.snow1026.snowlib.SnowKey;
+import io.github.snow1026.snowlib.registry.Registrable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * {@link Events}로 등록되어 현재 활성 상태인 구독의 정보입니다.
+ * <p>
+ * 활성 구독은 모두 {@link io.github.snow1026.snowlib.registry.RegistryKey#EVENT} 레지스트리에 기록되므로,
+ * 플러그인/이벤트 타입/소유 객체별로 조회하거나 소유 객체 단위로 강제 해제할 수 있습니다.
+ * 구독이 해제되면 레지스트리에서도 제거됩니다.
+ * </p>
+ */
+public interface EventSubscription extends Subscription, Registrable {
+
+    /**
+     * 레지스트리에서 이 구독을 식별하는 키를 반환합니다. ({@code <플러그인>:event/<이벤트>/<번호>})
+     *
+     * @return 구독 키
+     */
+    SnowKey getKey();
+
+    /**
+     * 구독을 소유한 플러그인을 반환합니다.
+     *
+     * @return 플러그인
+     */
+    Plugin getPlugin();
+
+    /**
+     * 구독한 이벤트 타입을 반환합니다.
+     *
+     * @return 이벤트 타입
+     */
+    Class<? extends Event> getEventType();
+
+    /**
+     * 구독의 우선순위를 반환합니다.
+     *
+     * @return 우선순위
+     */
+    EventPriority getPriority();
+
+    /**
+     * 구독을 소유한 객체를 반환합니다.
+     *
+     * @return 소유 객체 (지정하지 않았다면 null)
+     * @see Events#owner(Object)
+     */
+    Object getOwner();
+
+    /**
+     * 디버그 소스 이름을 반환합니다.
+     *
+     * @return 소스 이름 (디버그를 켜지 않았다면 null)
+     */
+    String getSource();
+
+    /**
+     * 구독이 차지하는 메모리의 추정치를 반환합니다.
+     * 실행기와 쿨다운 테이블 등 SnowLib이 할당한 구조만 포함하며, 핸들러가 캡처한 객체는 포함하지 않습니다.
+     *
+     * @return 추정 크기 (바이트)
+     */
+    long estimatedSize();
+}
@@ -1,13 +1,21 @@
 package io.github.snow1026.snowlib.api.event;
 
 import io.github.snow1026.snowlib.internal.event.SnowEvents;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.util.BoundingBox;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Flow;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -46,6 +54,74 @@ public interface Events<T extends Event> {
         return new SnowEvents<>(type, handler);
     }
 
+    /**
+     * 핸들러 없이 리스너 빌더를 생성합니다.
+     * 이벤트를 취소하기만 하는 구독이나 {@link #publish(Function, int, OverflowStrategy)}로 발행자를 만들 때 사용합니다.
+     *
+     * @param type 구독할 이벤트 클래스
+     * @param <T>  이벤트 제네릭 타입
+     * @return 설정을 위한 {@link Events} 빌더 인스턴스
+     */
+    static <T extends Event> Events<T> listen(Class<T> type) {
+        return new SnowEvents<>(type, e -> {});
+    }
+
+    /**
+     * 무거운 처리를 메인 스레드 밖에서 실행하는 리스너 빌더를 생성합니다.
+     * <p>
+     * {@code snapshot}은 이벤트 발생 시 메인 스레드에서 실행되어 작업에 필요한 값을 추출하고,
+     * {@code worker}는 그 값을 받아 가상 스레드에서 실행됩니다. 이벤트 객체는 메인 스레드를 벗어나면 안전하지 않으므로
+     * 스냅샷은 불변 값이어야 합니다. 스냅샷이 {@code null}이면 작업이 예약되지 않습니다.
+     * </p>
+     * <p>
+     * 작업은 구독마다 발생 순서대로 하나씩 처리되며, 대기열 크기와 초과 시 정책은 {@link #queue(int, OverflowStrategy)}로 지정합니다.
+     * (기본값: 1024개, {@link OverflowStrategy#DROP_NEWEST})
+     * </p>
+     *
+     * <pre>{@code
+     * Events.offload(PlayerJoinEvent.class, e -> e.getPlayer().getUniqueId(), uuid -> database.recordLogin(uuid))
+     *     .plugin(plugin)
+     *     .register();
+     * }</pre>
+     *
+     * @param type     구독할 이벤트 클래스
+     * @param snapshot 메인 스레드에서 실행될 스냅샷 추출 함수
+     * @param worker   작업 스레드에서 실행될 로직
+     * @param <T>      이벤트 제네릭 타입
+     * @param <S>      스냅샷 타입
+     * @return 설정을 위한 {@link Events} 빌더 인스턴스
+     */
+    static <T extends Event, S> Events<T> offload(Class<T> type, Function<T, S> snapshot, Consumer<S> worker) {
+        return SnowEvents.offload(type, snapshot, worker);
+    }
+
+    /**
+     * 이벤트 스냅샷을 모아 목록으로 한 번에 처리하는 리스너 빌더를 생성합니다.
+     * <p>
+     * {@code snapshot}은 이벤트 발생 시 메인 스레드에서 실행되며, 추출된 값은 미리 할당된 버퍼에 쌓입니다.
+     * 묶음은 첫 스냅샷이 들어온 뒤 지정한 틱 수가 지난 틱의 끝이나 버퍼가 가득 찬 즉시 {@code handler}에 전달됩니다.
+     * 크기와 틱 수는 {@link #batchLimits(int, long)}로 지정합니다. (기본값: 256개, 1틱)
+     * 스냅샷이 {@code null}이면 묶음에 포함되지 않으며, 필터/실행 제한/만료 등 다른 옵션은 들어오는 이벤트에 적용됩니다.
+     * </p>
+     *
+     * <pre>{@code
+     * Events.batch(BlockBreakEvent.class, e -> new BreakRecord(e.getPlayer().getUniqueId(), e.getBlock().getType()), records -> database.insertAll(records))
+     *     .batchLimits(512, 20)
+     *     .batchAsync()
+     *     .register();
+     * }</pre>
+     *
+     * @param type     구독할 이벤트 클래스
+     * @param snapshot 메인 스레드에서 실행될 스냅샷 추출 함수
+     * @param handler  묶음을 처리할 로직
+     * @param <T>      이벤트 제네릭 타입
+     * @param <S>      스냅샷 타입
+     * @return 설정을 위한 {@link Events} 빌더 인스턴스
+     */
+    static <T extends Event, S> Events<T> batch(Class<T> type, Function<T, S> snapshot, Consumer<List<S>> handler) {
+        return SnowEvents.batch(type, snapshot, handler);
+    }
+
     /**
      * 이벤트를 등록할 플러그인 인스턴스를 설정합니다.
      * <p>
@@ -101,6 +177,7 @@ public interface Events<T extends Event> {
 
     /**
      * 이벤트 등록 후 일정 시간이 지나면 자동으로 등록을 해제합니다.
+     * 만료는 틱 단위(올림)로 처리되며, 이벤트 발생 여부와 관계없이 SnowLib 타이머가 해제합니다.
      *
      * @param duration 유효 기간
      * @return 빌더 인스턴스
@@ -116,15 +193,72 @@ public interface Events<T extends Event> {
      */
     Events<T> cooldown(Duration duration);
 
+    /**
+     * 플레이어별 쿨다운을 설정합니다.
+     * 한 플레이어가 쿨다운 중이어도 다른 플레이어의 이벤트는 정상적으로 처리됩니다.
+     * 플레이어를 특정할 수 없는 이벤트는 쿨다운 없이 처리됩니다.
+     *
+     * @param duration 쿨다운 시간
+     * @return 빌더 인스턴스
+     * @see #cooldown(Duration, Function)
+     */
+    Events<T> cooldownPerPlayer(Duration duration);
+
+    /**
+     * 이벤트에서 추출한 UUID 키별로 쿨다운을 설정합니다.
+     * <p>
+     * 쿨다운 기록은 박싱 없는 원시 배열 기반 테이블에 저장되며,
+     * 만료된 항목은 자동으로 정리되고 플레이어 퇴장 시 해당 UUID의 기록은 즉시 제거됩니다.
+     * 추출 결과가 {@code null}인 이벤트는 쿨다운 없이 처리됩니다.
+     * </p>
+     *
+     * @param duration     쿨다운 시간
+     * @param keyExtractor 이벤트에서 쿨다운 키(UUID)를 추출하는 함수
+     * @return 빌더 인스턴스
+     */
+    Events<T> cooldown(Duration duration, Function<T, UUID> keyExtractor);
+
     /**
      * 이벤트 실행 중 예외가 발생했을 때 처리할 핸들러를 설정합니다.
-     * 설정하지 않을 경우 기본적으로 스택 트레이스를 콘솔에 출력합니다.
+     * 설정하지 않을 경우 같은 원인의 예외는 처음 한 번만 스택 트레이스를 출력하고, 이후에는 횟수만 집계합니다.
      *
      * @param exceptionHandler 예외 처리 컨슈머 (이벤트와 예외 객체 전달)
      * @return 빌더 인스턴스
      */
     Events<T> exceptionHandler(BiConsumer<T, Throwable> exceptionHandler);
 
+    /**
+     * 예외가 반복될 때 구독을 일시 중단하는 서킷 브레이커를 설정합니다.
+     * <p>
+     * {@code window} 안에 예외가 {@code failures}번 발생하면 구독은 {@code backoff} 동안 호출되지 않으며,
+     * 재개 직후 다시 중단되면 대기 시간이 두 배씩 늘어납니다. (최대 10분)
+     * 예외 처리기가 없다면 같은 원인의 예외는 처음 한 번만 스택 트레이스가 출력되고 이후에는 횟수만 집계됩니다.
+     * 상태는 {@link Subscription#isSuspended()}와 {@link Subscription#getFailures()}로 확인할 수 있습니다.
+     * 설정하지 않으면 구독은 중단되지 않고 예외 집계만 합니다.
+     * </p>
+     *
+     * @param failures 중단에 필요한 실패 횟수 (0 이하이면 중단하지 않음)
+     * @param window   실패 횟수를 세는 구간
+     * @param backoff  첫 중단 시간
+     * @return 빌더 인스턴스
+     */
+    Events<T> circuitBreaker(int failures, Duration window, Duration backoff);
+
+    /**
+     * 핸들러 실행 시간을 감시하는 워치독을 설정합니다.
+     * <p>
+     * 백그라운드 샘플러가 실행 중인 핸들러를 주기적으로 확인하여, 예산을 넘겨 실행 중인 스레드의 스택을 포착합니다.
+     * 10초 이상의 구간마다 실행 시간의 p99가 예산을 넘으면 포착한 스택과 함께
+     * {@link io.github.snow1026.snowlib.api.event.debug.EventDebug#watchdogReports()}에 보고되고 경고가 출력됩니다.
+     * 블로킹 I/O처럼 틱을 멈추게 하는 핸들러를 찾는 용도이며, 워치독을 설정하지 않은 구독에는 비용이 없습니다.
+     * </p>
+     *
+     * @param budget      핸들러 한 번의 실행 시간 예산
+     * @param autoSuspend true이면 보고와 함께 서킷 브레이커의 중단 시간만큼 구독을 일시 중단합니다.
+     * @return 빌더 인스턴스
+     */
+    Events<T> watchdog(Duration budget, boolean autoSuspend);
+
     /**
      * 특정 조건을 만족할 경우에만 핸들러가 실행되도록 필터를 추가합니다.
      * 여러 번 호출하여 다중 필터를 적용할 수 있습니다.
@@ -134,9 +268,166 @@ public interface Events<T extends Event> {
      */
     Events<T> filter(Predicate<T> filter);
 
+    /**
+     * 구독을 특정 플레이어에게 한정합니다.
+     * <p>
+     * 한정된 구독은 디스패처의 UUID 인덱스에 놓이므로, 다른 플레이어의 이벤트에서는
+     * 필터조차 평가되지 않습니다. 퀘스트 단계, 컷신, GUI 입력 대기처럼 한 플레이어만을 위한 핸들러에 적합합니다.
+     * 이벤트의 주체는 {@code PlayerEvent}의 플레이어 또는 {@code EntityEvent}의 엔티티이며,
+     * 둘 다 아닌 이벤트(예: {@code BlockBreakEvent}, {@code InventoryClickEvent})에서는 {@link #register()} 시 예외가 발생하므로
+     * {@link #filter(Predicate)}로 직접 검사하세요.
+     * </p>
+     *
+     * @param playerId 대상 플레이어의 UUID
+     * @return 빌더 인스턴스
+     */
+    Events<T> player(UUID playerId);
+
+    /**
+     * 구독을 특정 플레이어에게 한정합니다.
+     *
+     * @param player 대상 플레이어
+     * @return 빌더 인스턴스
+     * @see #player(UUID)
+     */
+    Events<T> player(Player player);
+
+    /**
+     * 구독을 특정 엔티티에게 한정합니다.
+     * 이벤트 주체({@code EntityEvent}의 엔티티 또는 {@code PlayerEvent}의 플레이어)의 UUID로 인덱싱되며,
+     * 주체를 추출할 수 없는 이벤트에서는 {@link #register()} 시 예외가 발생합니다.
+     *
+     * @param entityId 대상 엔티티의 UUID
+     * @return 빌더 인스턴스
+     */
+    Events<T> entity(UUID entityId);
+
+    /**
+     * 구독을 특정 엔티티에게 한정합니다.
+     *
+     * @param entity 대상 엔티티
+     * @return 빌더 인스턴스
+     * @see #entity(UUID)
+     */
+    Events<T> entity(Entity entity);
+
+    /**
+     * 구독을 특정 월드에서 발생한 이벤트로 한정합니다.
+     * 플레이어/엔티티 한정과 함께 사용할 경우 주체 인덱스가 우선하며 월드는 필터로 검사됩니다.
+     *
+     * @param world 대상 월드
+     * @return 빌더 인스턴스
+     */
+    Events<T> world(World world);
+
+    /**
+     * 구독을 특정 월드의 직육면체(AABB) 범위에서 발생한 이벤트로 한정합니다.
+     * <p>
+     * 공간 한정 구독은 청크 키 인덱스에 놓이므로, 이벤트 위치의 청크에 걸친 구독만 검사됩니다.
+     * 블록 이벤트는 블록 위치, {@code PlayerMoveEvent}는 출발/도착 위치 중 하나라도 범위 안이면,
+     * 그 외 이벤트는 주체 엔티티의 위치가 범위 안일 때 핸들러가 실행됩니다.
+     * 범위가 4096개(64 × 64)보다 많은 청크에 걸치면 청크 인덱스 대신 월드 단위로 놓이고, 범위는 필터로 검사됩니다.
+     * </p>
+     *
+     * @param world 대상 월드
+     * @param box   범위 (최솟값 포함, 최댓값 미포함)
+     * @return 빌더 인스턴스
+     */
+    Events<T> region(World world, BoundingBox box);
+
+    /**
+     * 구독을 특정 월드의 청크 집합에서 발생한 이벤트로 한정합니다.
+     * 청크 키 형식은 Paper의 {@code Chunk#getChunkKey()}와 같습니다.
+     *
+     * @param world     대상 월드
+     * @param chunkKeys 청크 키 목록
+     * @return 빌더 인스턴스
+     * @see #region(World, BoundingBox)
+     */
+    Events<T> chunks(World world, long... chunkKeys);
+
+    /**
+     * 등록될 구독을 지정한 그룹에 포함시킵니다.
+     * 그룹을 통해 여러 구독을 한 번에 해제할 수 있습니다.
+     *
+     * @param group 구독을 묶을 그룹
+     * @return 빌더 인스턴스
+     * @see SubscriptionGroup
+     */
+    Events<T> group(SubscriptionGroup group);
+
+    /**
+     * 구독을 소유한 객체를 지정합니다.
+     * 같은 소유 객체로 등록된 구독은 {@link io.github.snow1026.snowlib.registry.RegistryKey#EVENT} 레지스트리에서
+     * 함께 조회하거나 한 번에 해제할 수 있습니다. (모듈 리로드 시 남는 구독 정리 등)
+     *
+     * @param owner 소유 객체 (리스너 인스턴스, 모듈 등)
+     * @return 빌더 인스턴스
+     * @see io.github.snow1026.snowlib.registry.internal.EventSubscriptionRegistry#unregisterOwner(Object)
+     */
+    Events<T> owner(Object owner);
+
+    /**
+     * 이벤트를 즉시 처리하지 않고, 지정한 틱 구간 동안 마지막 이벤트만 모아 구간이 끝날 때 한 번 처리합니다.
+     * <p>
+     * {@link #coalesceBy(Function)}와 함께 쓰면 키마다 마지막 이벤트가 하나씩 전달되고, 그렇지 않으면 구간 전체에서 하나만 전달됩니다.
+     * 핸들러는 이벤트가 끝난 뒤에 호출되므로 이벤트를 취소하거나 수정해도 반영되지 않습니다.
+     * 필터, 쿨다운, 실행 제한은 들어오는 이벤트에 적용됩니다.
+     * </p>
+     *
+     * <pre>{@code
+     * Events.listen(PlayerMoveEvent.class, e -> updateSidebar(e.getPlayer()))
+     *     .debounce(5)
+     *     .coalesceBy(e -> e.getPlayer().getUniqueId())
+     *     .register();
+     * }</pre>
+     *
+     * @param ticks 구간 길이 (틱, 최소 1)
+     * @return 빌더 인스턴스
+     */
+    Events<T> debounce(long ticks);
+
+    /**
+     * 같은 키를 가진 이벤트를 합쳐 키마다 마지막 이벤트만 처리합니다.
+     * {@link #debounce(long)}를 지정하지 않으면 1틱 구간이 사용됩니다.
+     *
+     * @param keyExtractor 이벤트를 묶을 키 (예: 플레이어 UUID)
+     * @return 빌더 인스턴스
+     */
+    Events<T> coalesceBy(Function<T, ?> keyExtractor);
+
+    /**
+     * 오프로드 구독의 대기열 크기와, 가득 찼을 때의 처리 방식을 설정합니다.
+     *
+     * @param capacity 대기할 수 있는 최대 스냅샷 수
+     * @param overflow 대기열 초과 시 정책
+     * @return 빌더 인스턴스
+     * @throws IllegalStateException {@link #offload(Class, Function, Consumer)}로 만든 빌더가 아닌 경우
+     */
+    Events<T> queue(int capacity, OverflowStrategy overflow);
+
+    /**
+     * 묶음 구독의 최대 크기와 최대 대기 틱을 설정합니다.
+     *
+     * @param maxSize  한 묶음에 담을 최대 스냅샷 수
+     * @param maxTicks 첫 스냅샷이 들어온 틱을 포함해 묶음을 모을 틱 수 (1이면 같은 틱의 끝에 전달)
+     * @return 빌더 인스턴스
+     * @throws IllegalStateException {@link #batch(Class, Function, Consumer)}로 만든 빌더가 아닌 경우
+     */
+    Events<T> batchLimits(int maxSize, long maxTicks);
+
+    /**
+     * 묶음을 메인 스레드 대신 가상 스레드에서 처리합니다. 같은 구독의 묶음은 순서대로 하나씩 처리됩니다.
+     *
+     * @return 빌더 인스턴스
+     * @throws IllegalStateException {@link #batch(Class, Function, Consumer)}로 만든 빌더가 아닌 경우
+     */
+    Events<T> batchAsync();
+
     /**
      * 디버그 모드를 활성화합니다.
-     * 활성화 시 실행 시간이 로그로 출력되며, 호출 소스가 추적 시스템에 기록됩니다.
+     * 활성화 시 실행 시간과 호출/필터/예외 횟수가 {@link io.github.snow1026.snowlib.api.event.debug.EventProfiler}에 기록되며,
+     * 호출 소스가 추적 시스템에 기록됩니다.
      */
     Events<T> debug();
 
@@ -146,11 +437,46 @@ public interface Events<T extends Event> {
      */
     Events<T> debug(String source);
 
+    /**
+     * 설정된 옵션으로 이벤트 스냅샷을 발행하는 {@link Flow.Publisher}를 만듭니다.
+     * <p>
+     * 구독자가 붙을 때마다 이 빌더의 설정으로 이벤트 구독이 새로 등록되며, 구독자가 취소하면 해제됩니다.
+     * 실행 제한, 만료, 플러그인 비활성화로 이벤트 구독이 끝나면 남은 스냅샷을 전달한 뒤 {@code onComplete}가 호출됩니다.
+     * 스냅샷은 이벤트 스레드에서 추출되고, 구독자에게는 가상 스레드에서 전달됩니다.
+     * 구독자가 요청하지 않아 쌓인 스냅샷은 {@code capacity}까지 보관되며, 그 이상은 {@code overflow}에 따라 처리됩니다.
+     * ({@link OverflowStrategy#COALESCE}는 최신 값을 유지합니다.)
+     * 빌더에 지정된 핸들러는 발행에 사용되지 않습니다.
+     * </p>
+     *
+     * <pre>{@code
+     * Flow.Publisher<Location> moves = Events.listen(PlayerMoveEvent.class)
+     *     .player(player)
+     *     .publish(e -> e.getTo().clone(), 64, OverflowStrategy.COALESCE);
+     * }</pre>
+     *
+     * @param snapshot 이벤트에서 발행할 값을 추출하는 함수 ({@code null}이면 발행하지 않음)
+     * @param capacity 구독자마다 보관할 최대 스냅샷 수
+     * @param overflow 버퍼 초과 시 정책
+     * @param <S>      스냅샷 타입
+     * @return 이벤트 스냅샷 발행자
+     */
+    <S> Flow.Publisher<S> publish(Function<T, S> snapshot, int capacity, OverflowStrategy overflow);
+
     /**
      * 설정된 옵션을 바탕으로 이벤트를 실제 Bukkit 시스템에 등록합니다.
+     * 구독의 키, 소유자, 예상 크기 등을 조회하려면 {@link #subscribe()}를 사용하세요.
      *
      * @return 등록된 리스너를 제어(해제)할 수 있는 구독 객체
      * @throws IllegalStateException 플러그인이 설정되지 않은 경우
      */
     Subscription register();
+
+    /**
+     * {@link #register()}와 같게 등록하고, {@link io.github.snow1026.snowlib.registry.RegistryKey#EVENT} 레지스트리에 기록된
+     * 구독 정보를 조회할 수 있는 객체를 반환합니다.
+     *
+     * @return 등록된 리스너를 제어(해제)하고 정보를 조회할 수 있는 구독 객체
+     * @throws IllegalStateException 플러그인이 설정되지 않은 경우
+     */
+    EventSubscription subscribe();
 }
\ No newline at end of file
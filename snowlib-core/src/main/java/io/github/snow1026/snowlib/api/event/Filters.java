@@ -1,22 +1,21 @@
 package io.github.snow1026.snowlib.api.event;
 
+import io.github.snow1026.snowlib.internal.event.FilterChain;
 import org.bukkit.Material;
-import org.bukkit.block.Block;
-import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
 import org.bukkit.event.block.BlockEvent;
-import org.bukkit.event.entity.EntityChangeBlockEvent;
-import org.bukkit.event.entity.EntityEvent;
 import org.bukkit.event.entity.ProjectileHitEvent;
-import org.bukkit.event.player.PlayerEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.inventory.ItemStack;
 
 import java.util.function.Predicate;
 
 /**
  * 이벤트 처리에 유용한 공통 필터들을 제공하는 유틸리티 클래스입니다.
+ * <p>
+ * 이 클래스의 필터들은 {@link Events#register()} 시점에 하나의 조건식으로 합성됩니다.
+ * 플레이어/블록 필터는 이벤트마다 대상을 한 번만 추출해 공유하며, 권한 검사처럼 비싼 필터는 저렴한 필터와 직접 추가한 필터 뒤에 평가됩니다.
+ * </p>
  */
 public final class Filters {
     private Filters() {}
@@ -29,7 +28,7 @@ public final class Filters {
      * @return 필터 Predicate
      */
     public static <T extends Event> Predicate<T> ignoreCancelled() {
-        return e -> !(e instanceof Cancellable c) || !c.isCancelled();
+        return FilterChain.event(e -> !(e instanceof Cancellable c) || !c.isCancelled(), FilterChain.Cost.CHEAP);
     }
 
     /**
@@ -40,10 +39,7 @@ public final class Filters {
      * @return 필터 Predicate
      */
     public static <T extends Event> Predicate<T> isPlayer() {
-        return e -> {
-            if (e instanceof PlayerEvent) return true;
-            return e instanceof EntityEvent ee && ee.getEntity() instanceof Player;
-        };
+        return FilterChain.player(p -> true, FilterChain.Cost.CHEAP);
     }
 
     /**
@@ -55,10 +51,7 @@ public final class Filters {
      * @return 필터 Predicate
      */
     public static <T extends Event> Predicate<T> hasPermission(String permission) {
-        return e -> {
-            Player p = getPlayer(e);
-            return p != null && p.hasPermission(permission);
-        };
+        return FilterChain.player(p -> p.hasPermission(permission), FilterChain.Cost.EXPENSIVE);
     }
 
     /**
@@ -70,12 +63,7 @@ public final class Filters {
      * @return 필터 Predicate
      */
     public static <T extends Event> Predicate<T> handIs(Material material) {
-        return e -> {
-            Player p = getPlayer(e);
-            if (p == null) return false;
-            ItemStack item = p.getInventory().getItemInMainHand();
-            return item.getType() == material;
-        };
+        return FilterChain.player(p -> p.getInventory().getItemInMainHand().getType() == material, FilterChain.Cost.NORMAL);
     }
 
     /**
@@ -90,35 +78,6 @@ public final class Filters {
      * @return 필터 Predicate
      */
     public static <T extends Event> Predicate<T> blockIs(Material material) {
-        return e -> {
-            Block block = null;
-
-            // 1. 일반적인 블록 이벤트 (파괴, 설치, 번짐 등)
-            if (e instanceof BlockEvent be) {
-                block = be.getBlock();
-            }
-            // 2. 플레이어 상호작용 (우클릭, 좌클릭 등)
-            else if (e instanceof PlayerInteractEvent pie) {
-                block = pie.getClickedBlock();
-            }
-            // 3. 투사체(화살, 눈덩이 등)가 블록에 맞았을 때
-            else if (e instanceof ProjectileHitEvent phe) {
-                block = phe.getHitBlock();
-            }
-            // 4. 엔티티가 블록을 변경할 때 (엔더맨, 양이 잔디 먹음, 블록 낙하 등)
-            else if (e instanceof EntityChangeBlockEvent ecbe) {
-                block = ecbe.getBlock();
-            }
-
-            // 블록이 존재하고, 그 타입이 일치하는지 확인
-            return block != null && block.getType() == material;
-        };
-    }
-
-    // 내부 유틸: 이벤트에서 플레이어 추출
-    private static Player getPlayer(Event e) {
-        if (e instanceof PlayerEvent pe) return pe.getPlayer();
-        if (e instanceof EntityEvent ee && ee.getEntity() instanceof Player p) return p;
-        return null;
+        return FilterChain.block(block -> block.getType() == material, FilterChain.Cost.NORMAL);
     }
 }
@@ -0,0 +1,21 @@
+package io.github.snow1026.snowlib.api.event;
+
+/**
+ * 오프로드 구독의 대기열이 가득 찼을 때 새 스냅샷을 처리하는 방식입니다.
+ *
+ * @see Events#offload(Class, java.util.function.Function, java.util.function.Consumer)
+ * @see Events#queue(int, OverflowStrategy)
+ */
+public enum OverflowStrategy {
+    /** 새 스냅샷을 버립니다. 이미 대기 중인 작업은 그대로 처리됩니다. */
+    DROP_NEWEST,
+
+    /** 가장 오래된 스냅샷을 버리고 새 스냅샷을 넣습니다. */
+    DROP_OLDEST,
+
+    /**
+     * 가장 최근에 들어간 스냅샷을 새 스냅샷으로 교체합니다.
+     * 상태를 나타내는 값처럼 최신 값만 의미가 있을 때 사용합니다.
+     */
+    COALESCE
+}
@@ -1,5 +1,7 @@
 package io.github.snow1026.snowlib.api.event;
 
+import java.util.Map;
+
 /**
  * 등록된 이벤트 리스너에 대한 제어 권한을 가진 객체입니다.
  * 이를 통해 외부에서 명시적으로 리스너 등록을 해제하거나 상태를 확인할 수 있습니다.
@@ -25,4 +27,24 @@ public interface Subscription {
      * @return 실행 횟수
      */
     int getCallCount();
+
+    /**
+     * 짧은 시간에 예외가 반복되어 서킷 브레이커에 의해 일시 중단된 상태인지 확인합니다.
+     * 중단된 구독은 대기 시간이 지나면 자동으로 재개됩니다.
+     *
+     * @return 일시 중단 중이라면 true
+     * @see Events#circuitBreaker(int, java.time.Duration, java.time.Duration)
+     */
+    default boolean isSuspended() {
+        return false;
+    }
+
+    /**
+     * 지금까지 발생한 예외를 원인(예외 타입과 상위 스택 프레임)별로 집계한 결과를 반환합니다.
+     *
+     * @return 예외 지문과 발생 횟수의 맵 (발생 순서)
+     */
+    default Map<String, Long> getFailures() {
+        return Map.of();
+    }
 }
@@ -0,0 +1,73 @@
+package io.github.snow1026.snowlib.api.event;
+
+import io.github.snow1026.snowlib.internal.event.SnowSubscriptionGroup;
+
+/**
+ * 여러 {@link Subscription}을 하나로 묶어 한 번에 해제할 수 있는 그룹입니다.
+ * <p>
+ * 미니게임 아레나처럼 수천 개의 구독을 라운드 종료 시점에 정리해야 하는 경우,
+ * 개별 {@link Subscription#unregister()} 호출 대신 그룹 해제를 사용하면
+ * 이벤트 타입별 디스패처마다 단 한 번의 배열 교체로 정리가 끝납니다.
+ * </p>
+ *
+ * <h3>사용 예시:</h3>
+ * <pre>{@code
+ * SubscriptionGroup arena = SubscriptionGroup.create();
+ *
+ * Events.listen(PlayerDeathEvent.class, this::onDeath).group(arena).register();
+ * Events.listen(PlayerMoveEvent.class, this::onMove).group(arena).once().register();
+ *
+ * // 라운드 종료 시
+ * arena.unregister();
+ * }</pre>
+ */
+public interface SubscriptionGroup extends Subscription {
+
+    /**
+     * 비어 있는 새 구독 그룹을 생성합니다.
+     *
+     * @return 생성된 그룹
+     */
+    static SubscriptionGroup create() {
+        return new SnowSubscriptionGroup();
+    }
+
+    /**
+     * 구독을 그룹에 추가합니다.
+     * 이미 해제된 그룹에 추가할 경우 해당 구독은 즉시 해제됩니다.
+     *
+     * @param subscription 추가할 구독
+     * @return 그룹 인스턴스
+     */
+    SubscriptionGroup add(Subscription subscription);
+
+    /**
+     * 그룹에 포함된 구독 중 아직 활성 상태인 구독의 수를 반환합니다.
+     *
+     * @return 활성 구독 수
+     */
+    int size();
+
+    /**
+     * 그룹에 포함된 모든 구독을 한 번에 해제합니다.
+     * 같은 이벤트 디스패처에 속한 구독들은 한 번의 배열 교체로 함께 제거됩니다.
+     */
+    @Override
+    void unregister();
+
+    /**
+     * 그룹이 아직 해제되지 않았는지 확인합니다.
+     *
+     * @return 그룹이 해제되지 않았다면 true
+     */
+    @Override
+    boolean isActive();
+
+    /**
+     * 그룹에 포함된 구독들의 실행 횟수 합계를 반환합니다.
+     *
+     * @return 실행 횟수 합계
+     */
+    @Override
+    int getCallCount();
+}
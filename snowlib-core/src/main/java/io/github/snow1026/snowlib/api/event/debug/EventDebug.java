@@ -3,7 +3,11 @@ package io.github.snow1026.snowlib.api.event.debug;
 import io.github.snow1026.snowlib.api.event.EventKey;
 import org.bukkit.event.Event;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -19,7 +23,9 @@ public final class EventDebug {
      * 이벤트 실행 소요 시간을 콘솔에 출력합니다.
      * @param event 실행된 이벤트
      * @param timeNs 소요 시간 (나노초 단위)
+     * @deprecated 디버그 구독의 실행 시간은 {@link EventProfiler}에 통계로 기록됩니다.
      */
+    @Deprecated
     public static void log(Event event, long timeNs) {
         System.out.println("[SnowLib] Event " + event.getEventName() + " executed in " + timeNs + " ns");
     }
@@ -28,12 +34,43 @@ public final class EventDebug {
      * 이벤트 처리 중 발생한 예외를 포맷에 맞게 출력하고 런타임 예외로 던집니다.
      * @param t 발생한 예외
      * @param event 예외가 발생한 시점의 이벤트
+     * @deprecated 구독의 예외는 원인별로 집계되며 {@link io.github.snow1026.snowlib.api.event.Subscription#getFailures()}로 조회합니다.
      */
+    @Deprecated
     public static void handleException(Throwable t, Event event) {
         System.err.println("[SnowLib] Exception in event " + event.getEventName());
         throw new RuntimeException(t);
     }
 
+    /** 보관하는 워치독 보고의 최대 개수입니다. */
+    private static final int MAX_WATCHDOG_REPORTS = 32;
+
+    /** 최근 워치독 보고 (오래된 순) */
+    private static final Deque<WatchdogReport> watchdogReports = new ArrayDeque<>();
+
+    /**
+     * 워치독 보고를 기록합니다. 워치독 샘플러가 내부적으로 호출합니다.
+     *
+     * @param report 보고
+     */
+    public static void report(WatchdogReport report) {
+        synchronized (watchdogReports) {
+            if (watchdogReports.size() == MAX_WATCHDOG_REPORTS) watchdogReports.pollFirst();
+            watchdogReports.addLast(report);
+        }
+    }
+
+    /**
+     * 최근 워치독 보고를 오래된 순으로 반환합니다. (최대 {@value #MAX_WATCHDOG_REPORTS}개)
+     *
+     * @return 보고 목록의 복사본
+     */
+    public static List<WatchdogReport> watchdogReports() {
+        synchronized (watchdogReports) {
+            return new ArrayList<>(watchdogReports);
+        }
+    }
+
     /** 이벤트 키와 해당 이벤트를 등록한 소스들의 집합을 매핑하는 스토리지입니다. */
     private static final Map<EventKey, Set<String>> tree = new ConcurrentHashMap<>();
 
@@ -49,6 +86,7 @@ public final class EventDebug {
     /**
      * 현재까지 등록된 모든 이벤트와 그 출처를 트리 형태로 콘솔에 출력(Dump)합니다.
      * 등록된 이벤트가 없을 경우 별도의 안내 메시지를 표시합니다.
+     * 워치독 보고는 발생할 때 플러그인 로거에 기록되므로 여기서 출력하지 않으며, {@link #watchdogReports()}로 조회합니다.
      */
     public static void dump() {
         System.out.println("\n========== [SnowLib Event Tree] ==========");
@@ -63,9 +101,12 @@ public final class EventDebug {
     }
 
     /**
-     * 저장된 모든 이벤트 트리 데이터를 초기화합니다.
+     * 저장된 모든 이벤트 트리 데이터와 워치독 보고를 초기화합니다.
      */
     public static void clear() {
         tree.clear();
+        synchronized (watchdogReports) {
+            watchdogReports.clear();
+        }
     }
 }
@@ -0,0 +1,108 @@
+package io.github.snow1026.snowlib.api.event.debug;
+
+import io.github.snow1026.snowlib.api.event.EventKey;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 디버그가 활성화된 구독들의 {@link EventStats}를 모아 조회하고 주기적으로 보고합니다.
+ * <p>
+ * 이벤트마다 콘솔에 출력하는 대신 통계만 기록하므로, 운영 중인 서버에서도 켜 둘 수 있습니다.
+ * 통계는 구독이 해제되면 함께 제거됩니다.
+ * </p>
+ */
+public final class EventProfiler {
+    private static final Set<EventStats> stats = ConcurrentHashMap.newKeySet();
+    private static BukkitTask reportTask;
+
+    private EventProfiler() {}
+
+    /**
+     * 구독 하나의 통계를 생성하고 등록합니다. 구독 생성 시 내부적으로 호출됩니다.
+     */
+    public static EventStats register(EventKey key, String source) {
+        EventStats created = new EventStats(key, source);
+        stats.add(created);
+        return created;
+    }
+
+    /**
+     * 프로파일러 목록에 포함되지 않는 통계를 생성합니다. 워치독처럼 구간마다 통계를 초기화하는 용도로 사용됩니다.
+     */
+    public static EventStats detached(EventKey key, String source) {
+        return new EventStats(key, source);
+    }
+
+    /**
+     * 해제된 구독의 통계를 제거합니다.
+     */
+    public static void unregister(EventStats removed) {
+        stats.remove(removed);
+    }
+
+    /**
+     * @return 지정한 이벤트를 구독 중인 모든 구독의 통계
+     */
+    public static List<EventStats> stats(EventKey key) {
+        return stats.stream().filter(s -> s.key().equals(key)).toList();
+    }
+
+    /**
+     * @return 지정한 디버그 소스로 등록된 모든 구독의 통계
+     */
+    public static List<EventStats> stats(String source) {
+        return stats.stream().filter(s -> s.source().equals(source)).toList();
+    }
+
+    /**
+     * @return 현재 기록 중인 모든 통계
+     */
+    public static List<EventStats> all() {
+        return List.copyOf(stats);
+    }
+
+    /**
+     * 모든 통계를 누적 실행 횟수 순으로 정리한 보고서를 만듭니다.
+     */
+    public static String report() {
+        StringBuilder out = new StringBuilder("========== [SnowLib Event Profile] ==========\n");
+        List<EventStats> sorted = stats.stream().sorted(Comparator.comparingLong(EventStats::calls).reversed()).toList();
+        if (sorted.isEmpty()) {
+            out.append(" No profiled events.\n");
+        }
+        sorted.forEach(s -> out.append(' ').append(s).append('\n'));
+        return out.append("=============================================").toString();
+    }
+
+    /**
+     * 지정한 주기마다 보고서를 플러그인 로거로 출력하고, 출력한 통계를 초기화합니다.
+     * 이미 보고 중이라면 기존 주기를 대체합니다.
+     *
+     * @param plugin      보고 작업을 소유할 플러그인
+     * @param periodTicks 보고 주기 (틱)
+     */
+    public static synchronized void startReporting(Plugin plugin, long periodTicks) {
+        stopReporting();
+        reportTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+            if (stats.isEmpty()) return;
+            plugin.getLogger().info(report());
+            stats.forEach(EventStats::reset);
+        }, periodTicks, periodTicks);
+    }
+
+    /**
+     * 주기적 보고를 중지합니다.
+     */
+    public static synchronized void stopReporting() {
+        if (reportTask != null) {
+            reportTask.cancel();
+            reportTask = null;
+        }
+    }
+}
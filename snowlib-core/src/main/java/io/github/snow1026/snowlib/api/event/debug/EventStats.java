@@ -0,0 +1,148 @@
+package io.github.snow1026.snowlib.api.event.debug;
+
+import io.github.snow1026.snowlib.api.event.EventKey;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 디버그가 활성화된 구독 하나의 실행 통계입니다.
+ * <p>
+ * 실행 시간은 HDR 히스토그램과 같은 로그-선형 버킷(2의 거듭제곱 구간마다 8개, 상대 오차 약 12.5%)에 기록되며,
+ * 카운터는 {@link LongAdder}로 분산되어 있어 기록 비용이 작고 잠금이 없습니다.
+ * 백분위 값은 해당 버킷의 상한으로 보고됩니다.
+ * </p>
+ */
+public final class EventStats {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_COUNT;
+
+    private final EventKey key;
+    private final String source;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder filtered = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    EventStats(EventKey key, String source) {
+        this.key = key;
+        this.source = source;
+    }
+
+    /** 핸들러 실행 한 번과 그 소요 시간을 기록합니다. */
+    public void recordCall(long nanos) {
+        calls.increment();
+        totalNanos.add(nanos);
+        histogram.incrementAndGet(bucketOf(nanos));
+        long max;
+        while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /** 필터에 의해 걸러진 이벤트를 기록합니다. */
+    public void recordFiltered() {
+        filtered.increment();
+    }
+
+    /** 핸들러 실행 중 발생한 예외를 기록합니다. */
+    public void recordError() {
+        errors.increment();
+    }
+
+    public EventKey key() {
+        return key;
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public long calls() {
+        return calls.sum();
+    }
+
+    public long filtered() {
+        return filtered.sum();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    public long meanNanos() {
+        long count = calls.sum();
+        return count == 0 ? 0 : totalNanos.sum() / count;
+    }
+
+    /**
+     * 실행 시간의 백분위 값을 반환합니다.
+     *
+     * @param percentile 0 ~ 100 사이의 백분위
+     * @return 나노초 단위 실행 시간, 기록이 없으면 0
+     */
+    public long percentileNanos(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram.get(i);
+            total += counts[i];
+        }
+        if (total == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(upperBoundOf(i), maxNanos.get());
+        }
+        return maxNanos.get();
+    }
+
+    /** 모든 기록을 초기화합니다. */
+    public void reset() {
+        calls.reset();
+        filtered.reset();
+        errors.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+        for (int i = 0; i < BUCKETS; i++) histogram.set(i, 0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s): calls=%d, filtered=%d, errors=%d, mean=%s, p50=%s, p99=%s, max=%s",
+                source, key.type().getSimpleName(), calls(), filtered(), errors(),
+                format(meanNanos()), format(percentileNanos(50)), format(percentileNanos(99)), format(maxNanos()));
+    }
+
+    private static String format(long nanos) {
+        return nanos < 1_000_000 ? String.format("%.1fµs", nanos / 1_000.0) : String.format("%.2fms", nanos / 1_000_000.0);
+    }
+
+    // 작은 값(< 8ns)은 그대로, 그 이상은 최상위 비트 위치와 그 아래 3비트로 버킷을 정합니다.
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_COUNT) return (int) Math.max(0, nanos);
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_COUNT) return bucket;
+        int exponent = bucket / SUB_COUNT + SUB_BITS - 1;
+        long sub = bucket % SUB_COUNT;
+        long lower = (1L << exponent) | (sub << (exponent - SUB_BITS));
+        long upper = lower + (1L << (exponent - SUB_BITS)) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+}
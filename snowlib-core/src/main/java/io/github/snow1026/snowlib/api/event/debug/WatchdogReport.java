@@ -0,0 +1,34 @@
+package io.github.snow1026.snowlib.api.event.debug;
+
+import org.bukkit.event.Event;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 실행 시간 예산을 넘긴 핸들러에 대한 워치독 보고입니다.
+ *
+ * @param source      구독의 소스 이름 (디버그 소스 또는 이벤트 이름)
+ * @param eventType   구독한 이벤트 타입
+ * @param p99         보고 시점 구간의 99번째 백분위 실행 시간
+ * @param budget      구독에 설정된 실행 시간 예산
+ * @param calls       보고 구간 동안의 실행 횟수
+ * @param stack       예산을 넘겨 실행 중이던 스레드의 스택 (샘플러가 포착하지 못했다면 빈 배열)
+ * @param suspended   보고와 함께 구독이 일시 중단되었는지 여부
+ * @param reportedAt  보고 시각
+ * @see io.github.snow1026.snowlib.api.event.Events#watchdog(Duration, boolean)
+ */
+public record WatchdogReport(String source, Class<? extends Event> eventType, Duration p99, Duration budget, long calls, StackTraceElement[] stack, boolean suspended, Instant reportedAt) {
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(source).append(" (").append(eventType.getSimpleName()).append("): p99 ")
+                .append(p99.toNanos() / 1_000).append("us > budget ").append(budget.toNanos() / 1_000).append("us over ").append(calls).append(" calls");
+        if (suspended) out.append(", suspended");
+        for (StackTraceElement frame : stack) {
+            out.append("\n    at ").append(frame);
+        }
+        return out.toString();
+    }
+}
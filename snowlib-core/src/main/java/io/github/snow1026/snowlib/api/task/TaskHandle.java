@@ -0,0 +1,92 @@
+package io.github.snow1026.snowlib.api.task;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link Tasker}로 시작한 작업의 결과와, 그 뒤에 이어지는 단계들을 다루는 핸들입니다.
+ * <p>
+ * 각 단계의 반환값은 다음 단계로 전달됩니다. {@code Sync} 단계는 SnowLib 메인 스레드 큐({@link TaskQueue})를 거쳐 실행되므로,
+ * 같은 틱에 준비된 메인 스레드 단계들은 다음 틱의 큐 처리 한 번에 함께 실행됩니다.
+ * {@code Async} 단계는 작업을 만든 {@link Tasker}의 비동기 실행기에서 실행됩니다.
+ * </p>
+ * <p>
+ * 어느 단계에서든 예외가 발생하면 작업을 만든 {@link Tasker#onError(Consumer)} 핸들러가 한 번 호출되고, 이후 단계는 실행되지 않습니다.
+ * 단계를 취소하면 아직 실행되지 않은 앞뒤 단계와 원래 작업이 모두 취소됩니다.
+ * </p>
+ *
+ * <pre>{@code
+ * Tasker.supplyAsync(() -> database.load(uuid))
+ *     .thenApplySync(data -> applyToPlayer(player, data))
+ *     .thenAcceptAsync(result -> database.audit(uuid, result));
+ * }</pre>
+ *
+ * @param <T> 이 단계의 결과 타입
+ */
+public interface TaskHandle<T> {
+
+    /**
+     * 이 단계가 끝나면 메인 스레드에서 결과를 변환합니다.
+     *
+     * @param function 변환 함수
+     * @param <R>      다음 단계의 결과 타입
+     * @return 다음 단계의 핸들
+     */
+    <R> TaskHandle<R> thenApplySync(Function<? super T, ? extends R> function);
+
+    /**
+     * 이 단계가 끝나면 비동기 스레드에서 결과를 변환합니다.
+     *
+     * @param function 변환 함수
+     * @param <R>      다음 단계의 결과 타입
+     * @return 다음 단계의 핸들
+     */
+    <R> TaskHandle<R> thenApplyAsync(Function<? super T, ? extends R> function);
+
+    /**
+     * 이 단계가 끝나면 메인 스레드에서 결과를 사용합니다.
+     *
+     * @param action 실행할 작업
+     * @return 다음 단계의 핸들
+     */
+    TaskHandle<Void> thenAcceptSync(Consumer<? super T> action);
+
+    /**
+     * 이 단계가 끝나면 비동기 스레드에서 결과를 사용합니다.
+     *
+     * @param action 실행할 작업
+     * @return 다음 단계의 핸들
+     */
+    TaskHandle<Void> thenAcceptAsync(Consumer<? super T> action);
+
+    /**
+     * 이 단계와, 이 단계에 이어진 아직 끝나지 않은 뒤 단계를 취소합니다.
+     * <p>
+     * 앞 단계와 같은 단계에서 갈라진 다른 단계는 취소되지 않습니다.
+     * 원래 작업까지 멈추려면 처음 받은 핸들을 취소하세요. 반복 작업이라면 이후 실행도 멈춥니다.
+     * </p>
+     *
+     * @return 이 단계가 이번 호출로 취소되었다면 true
+     */
+    boolean cancel();
+
+    /**
+     * @return 이 단계가 완료(성공, 실패, 취소 포함)되었다면 true
+     */
+    boolean isDone();
+
+    /**
+     * @return 이 단계가 취소되었다면 true
+     */
+    boolean isCancelled();
+
+    /**
+     * 이 단계의 결과를 {@link CompletableFuture}로 반환합니다.
+     * 반환된 객체를 완료하거나 취소해도 작업에는 영향이 없으므로, 취소는 {@link #cancel()}을 사용하세요.
+     * 메인 스레드에서 결과를 기다리면 서버가 멈추므로 {@code join()}은 비동기 스레드에서만 사용하세요.
+     *
+     * @return 결과 Future
+     */
+    CompletableFuture<T> toFuture();
+}
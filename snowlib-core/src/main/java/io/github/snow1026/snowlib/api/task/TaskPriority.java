@@ -0,0 +1,14 @@
+package io.github.snow1026.snowlib.api.task;
+
+/**
+ * {@link Tasker#queued()} 작업이 메인 스레드 큐에서 처리되는 순서입니다.
+ * 한 틱 안에서는 높은 우선순위의 작업이 모두 처리된 뒤에 낮은 우선순위의 작업이 처리됩니다.
+ */
+public enum TaskPriority {
+    /** 가장 먼저 처리됩니다. (플레이어에게 바로 보이는 변경 등) */
+    HIGH,
+    /** 기본 우선순위입니다. */
+    NORMAL,
+    /** 예산이 남을 때만 처리됩니다. (청크 단위 블록 갱신 등 미뤄도 되는 작업) */
+    LOW
+}
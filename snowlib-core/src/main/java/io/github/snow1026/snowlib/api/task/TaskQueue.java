@@ -0,0 +1,72 @@
+package io.github.snow1026.snowlib.api.task;
+
+import io.github.snow1026.snowlib.internal.task.TickQueue;
+
+import java.time.Duration;
+
+/**
+ * {@link Tasker#queued()} 작업이 쌓이는 메인 스레드 큐의 설정과 지표입니다.
+ * <p>
+ * 큐는 매 틱 {@link #getBudget()} 동안만 처리되며, 남은 작업은 다음 틱으로 넘어갑니다.
+ * </p>
+ */
+public final class TaskQueue {
+
+    private TaskQueue() {}
+
+    /**
+     * 한 틱에 큐를 처리할 시간 예산을 설정합니다. (기본값: 5ms)
+     *
+     * @param budget 시간 예산
+     * @throws IllegalArgumentException 예산이 0 이하인 경우
+     */
+    public static void setBudget(Duration budget) {
+        TickQueue.budget(budget);
+    }
+
+    /**
+     * @return 한 틱에 큐를 처리할 시간 예산
+     */
+    public static Duration getBudget() {
+        return TickQueue.budget();
+    }
+
+    /**
+     * @return 처리를 기다리는 작업 수
+     */
+    public static int depth() {
+        return TickQueue.depth();
+    }
+
+    /**
+     * @param priority 우선순위
+     * @return 해당 우선순위에서 처리를 기다리는 작업 수
+     */
+    public static int depth(TaskPriority priority) {
+        return TickQueue.depth(priority);
+    }
+
+    /**
+     * @return 지금까지 처리된 작업 수
+     */
+    public static long totalExecuted() {
+        return TickQueue.totalExecuted();
+    }
+
+    /**
+     * @return 작업이 하나 이상 처리된 마지막 틱의 처리 결과
+     */
+    public static DrainStats lastDrain() {
+        return TickQueue.lastDrain();
+    }
+
+    /**
+     * 한 틱 동안의 큐 처리 결과입니다.
+     *
+     * @param tick     처리한 틱 ({@code SnowTicker} 기준)
+     * @param executed 실행한 작업 수
+     * @param carried  다음 틱으로 넘어간 작업 수
+     * @param nanos    처리에 걸린 시간 (나노초)
+     */
+    public record DrainStats(long tick, int executed, int carried, long nanos) {}
+}
@@ -0,0 +1,39 @@
+package io.github.snow1026.snowlib.api.task;
+
+import io.github.snow1026.snowlib.internal.task.TaskSpreader;
+
+import java.util.Set;
+
+/**
+ * {@link Tasker#spread(long)} 작업이 주기 안의 틱 슬롯에 나뉘어 놓인 상태를 확인합니다.
+ */
+public final class TaskSpread {
+
+    private TaskSpread() {}
+
+    /**
+     * 주기의 슬롯별 작업 수를 반환합니다. 인덱스 {@code s}는 {@code tick % period == s}인 틱에 실행되는 작업 수입니다.
+     *
+     * @param period 반복 주기 (틱)
+     * @return 길이가 {@code period}인 슬롯별 작업 수
+     * @throws IllegalArgumentException 주기가 1 미만이거나 너무 긴 경우
+     */
+    public static int[] histogram(long period) {
+        return TaskSpreader.histogram(period);
+    }
+
+    /**
+     * @param period 반복 주기 (틱)
+     * @return 해당 주기로 나뉘어 실행 중인 작업 수
+     */
+    public static int size(long period) {
+        return TaskSpreader.size(period);
+    }
+
+    /**
+     * @return 나뉘어 실행 중인 작업이 있는 주기 목록 (오름차순)
+     */
+    public static Set<Long> periods() {
+        return TaskSpreader.periods();
+    }
+}
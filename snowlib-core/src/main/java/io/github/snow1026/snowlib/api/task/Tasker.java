@@ -1,10 +1,12 @@
 package io.github.snow1026.snowlib.api.task;
 
 import io.github.snow1026.snowlib.internal.task.SnowTasker;
+import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Bukkit 스케줄러 작업을 쉽고 직관적으로 생성하기 위한 진입점 클래스입니다.
@@ -19,7 +21,7 @@ public interface Tasker {
      * @return 동기 작업을 위한 {@link Tasker} 객체
      */
     static Tasker sync() {
-        return new SnowTasker(false);
+        return new SnowTasker(SnowTasker.Backend.SYNC);
     }
 
     /**
@@ -29,9 +31,98 @@ public interface Tasker {
      * @return 비동기 작업을 위한 {@link Tasker} 객체
      */
     static Tasker async() {
-        return new SnowTasker(true);
+        return new SnowTasker(SnowTasker.Backend.ASYNC);
     }
 
+    /**
+     * SnowLib이 관리하는 메인 스레드 큐에서 실행될 동기 작업을 생성합니다.
+     * <p>
+     * 작업마다 Bukkit 작업을 만들지 않고 큐에 넣으며, 큐는 매 틱 {@link TaskQueue#getBudget()} 동안만 처리되고
+     * 남은 작업은 다음 틱으로 넘어갑니다. 비동기 연산 결과를 청크 단위로 반영하는 것처럼
+     * 작은 동기 작업이 한꺼번에 몰리는 경우에 사용합니다. 처리 순서는 {@link #priority(TaskPriority)}로 정합니다.
+     * 지연과 반복 간격은 작업이 큐에 들어가는 시점을 기준으로 하며, 반복 간격은 이전 실행이 끝난 뒤부터 셉니다.
+     * </p>
+     *
+     * @return 큐 작업을 위한 {@link Tasker} 객체
+     */
+    static Tasker queued() {
+        return new SnowTasker(SnowTasker.Backend.QUEUED);
+    }
+
+    /**
+     * SnowLib 타이머 휠에서 실행될 동기 작업을 생성합니다.
+     * <p>
+     * 지연/반복 작업마다 Bukkit 작업을 만들지 않고, 모든 휠 작업이 하나의 Bukkit 타이머를 공유하는
+     * 계층형 타이머 휠에 놓입니다. 예약과 취소는 O(1)이며 Bukkit 스케줄러의 우선순위 큐와 작업별 타이밍을 거치지 않으므로,
+     * 엔티티마다 반복 작업을 두는 것처럼 작업 수가 많을 때 사용합니다.
+     * {@link #limit(int)}, {@link #filter(BooleanSupplier)}, {@link #onError(Consumer)}는 {@link #sync()}와 같게 동작합니다.
+     * </p>
+     *
+     * @return 휠 작업을 위한 {@link Tasker} 객체
+     */
+    static Tasker wheel() {
+        return new SnowTasker(SnowTasker.Backend.WHEEL);
+    }
+
+    /**
+     * SnowLib 가상 스레드 풀에서 실행될 비동기 작업을 생성합니다.
+     * <p>
+     * 작업마다 플랫폼 스레드를 쓰지 않으므로 DB 조회나 HTTP 호출처럼 오래 블로킹되는 작업을 많이 실행할 때 사용합니다.
+     * 동시에 실행되는 작업 수는 플러그인마다 {@link VirtualTasks#setLimit(Plugin, int)}로 제한되며, 한도를 넘는 작업은 차례를 기다립니다.
+     * 플러그인이 비활성화되면 대기 중인 작업은 버려지고 실행 중인 작업에는 인터럽트가 전달됩니다.
+     * 지연과 반복 간격은 SnowLib 타이머 휠이 세며, 반복 간격은 이전 실행이 끝난 뒤부터 셉니다.
+     * 이 작업에서 이어지는 {@code Async} 단계도 같은 풀에서 실행됩니다.
+     * </p>
+     *
+     * @return 가상 스레드 작업을 위한 {@link Tasker} 객체
+     */
+    static Tasker virtual() {
+        return new SnowTasker(SnowTasker.Backend.VIRTUAL);
+    }
+
+    /**
+     * 주기 안의 틱 슬롯에 나뉘어 실행될 동기 반복 작업을 생성합니다.
+     * <p>
+     * 플레이어마다 같은 주기의 반복 작업을 두면 모든 작업이 같은 틱에 몰리지만, 이 작업들은 {@link #key(Object)}의 해시로
+     * {@code period}개의 슬롯에 나뉘어 매 틱 부하가 고르게 됩니다. 작업이 추가되거나 빠지면서 슬롯 부하가 기울면
+     * 무거운 슬롯의 작업이 다음 실행 때 가벼운 슬롯으로 옮겨지며, 이때 한 번은 간격이 주기보다 짧아질 수 있습니다.
+     * 첫 실행은 {@link #delay(long)} 이후 배정된 슬롯에 처음 닿는 틱이며, 작업은 SnowLib 타이머 휠에서 실행됩니다.
+     * 슬롯별 부하는 {@link TaskSpread#histogram(long)}으로 확인할 수 있습니다.
+     * </p>
+     *
+     * <pre>{@code
+     * Tasker.spread(20).key(player.getUniqueId()).run(task -> updateScoreboard(player));
+     * }</pre>
+     *
+     * @param period 반복 간격 (틱)
+     * @return 분산 반복 작업을 위한 {@link Tasker} 객체
+     * @throws IllegalArgumentException 주기가 1 미만이거나 1시간(72000틱)보다 긴 경우
+     */
+    static Tasker spread(long period) {
+        return new SnowTasker(period);
+    }
+
+    /**
+     * 비동기 스레드에서 값을 계산하는 작업을 바로 시작합니다.
+     * {@code Tasker.async().supply(supplier)}와 같습니다.
+     *
+     * @param supplier 값을 계산하는 코드
+     * @param <T>      결과 타입
+     * @return 결과를 이어받을 {@link TaskHandle}
+     */
+    static <T> TaskHandle<T> supplyAsync(Supplier<T> supplier) {
+        return async().supply(supplier);
+    }
+
+    /**
+     * 작업을 소유할 플러그인을 설정합니다. (기본값: SnowLib)
+     * 플러그인이 비활성화되면 실행 방식과 관계없이 해당 플러그인의 작업과 이어진 단계가 모두 취소되며,
+     * 결과를 기다리던 {@link TaskHandle}은 취소된 상태로 완료됩니다.
+     * @param plugin 작업을 소유할 플러그인
+     * @return 컨텍스트 인스턴스 (체이닝용)
+     */
+    Tasker plugin(Plugin plugin);
+
     /**
      * 작업 시작 전 대기할 시간을 설정합니다.
      * @param ticks 지연 시간 (20틱 = 1초)
@@ -43,6 +134,7 @@ public interface Tasker {
      * 작업의 반복 주기를 설정합니다.
      * @param period 반복 간격 (20틱 = 1초). -1일 경우 반복하지 않습니다.
      * @return 컨텍스트 인스턴스 (체이닝용)
+     * @throws IllegalStateException {@link #spread(long)} 작업인 경우
      */
     Tasker repeat(long period);
 
@@ -61,6 +153,23 @@ public interface Tasker {
      */
     Tasker filter(BooleanSupplier condition);
 
+    /**
+     * 메인 스레드 큐에서의 처리 우선순위를 설정합니다. (기본값: {@link TaskPriority#NORMAL})
+     * @param priority 우선순위
+     * @return 컨텍스트 인스턴스 (체이닝용)
+     * @throws IllegalStateException {@link #queued()} 작업이 아닌 경우
+     */
+    Tasker priority(TaskPriority priority);
+
+    /**
+     * 슬롯을 고를 때 사용할 키를 설정합니다. 보통 엔티티나 플레이어의 UUID를 사용합니다.
+     * 키를 정하지 않으면 가장 가벼운 슬롯에 놓입니다.
+     * @param key 슬롯을 고를 키
+     * @return 컨텍스트 인스턴스 (체이닝용)
+     * @throws IllegalStateException {@link #spread(long)} 작업이 아닌 경우
+     */
+    Tasker key(Object key);
+
     /**
      * 작업 실행 중 예외가 발생했을 때 처리할 핸들러를 설정합니다.
      * 기본값은 StackTrace를 출력하고 작업을 중단합니다.
@@ -71,27 +180,62 @@ public interface Tasker {
 
     /**
      * 정의된 조건에 따라 작업을 실행합니다.
+     * 작업의 종료를 이어받으려면 {@link #start(Consumer)}를 사용하세요.
      * @param taskConsumer {@link BukkitTask} 인스턴스를 사용하는 작업 내용
      */
     void run(Consumer<BukkitTask> taskConsumer);
 
     /**
      * 단순 Runnable을 사용하여 작업을 실행합니다.
+     * 작업의 종료를 이어받으려면 {@link #start(Runnable)}를 사용하세요.
      * @param runnable 실행할 코드 블록
      */
     void run(Runnable runnable);
 
+    /**
+     * {@link #run(Consumer)}처럼 작업을 실행하고, 작업의 종료를 이어받을 핸들을 반환합니다.
+     * 핸들은 단일 작업이면 실행이 끝났을 때, 반복 작업이면 조건, 횟수 제한 또는 취소로 종료되었을 때 완료됩니다.
+     * 작업 안에서 {@link BukkitTask#cancel()}로 취소한 경우에도 완료되며,
+     * Bukkit 스케줄러의 반복 작업을 밖에서 취소한 경우에는 최대 1초 안에 완료됩니다.
+     * @param taskConsumer {@link BukkitTask} 인스턴스를 사용하는 작업 내용
+     * @return 작업의 종료를 이어받을 {@link TaskHandle}
+     */
+    TaskHandle<Void> start(Consumer<BukkitTask> taskConsumer);
+
+    /**
+     * {@link #run(Runnable)}처럼 작업을 실행하고, 작업의 종료를 이어받을 핸들을 반환합니다.
+     * @param runnable 실행할 코드 블록
+     * @return 작업의 종료를 이어받을 {@link TaskHandle}
+     * @see #start(Consumer)
+     */
+    TaskHandle<Void> start(Runnable runnable);
+
+    /**
+     * 값을 계산하는 단일 작업을 실행합니다.
+     * 계산된 값은 {@link TaskHandle#thenApplySync(java.util.function.Function)} 등으로 다음 단계에 전달됩니다.
+     * {@link #filter(BooleanSupplier)} 조건을 통과하지 못하면 결과는 null입니다.
+     * @param supplier 값을 계산하는 코드
+     * @param <T>      결과 타입
+     * @return 결과를 이어받을 {@link TaskHandle}
+     * @throws IllegalStateException {@link #repeat(long)}이 설정된 경우
+     */
+    <T> TaskHandle<T> supply(Supplier<T> supplier);
+
     /**
      * 현재 작업이 완료된 후(단일 작업) 또는 종료된 후(반복 작업)
      * 메인 스레드에서 실행될 다음 작업을 예약합니다.
-     * * @param nextRunnable 다음에 실행할 코드 블록
+     * @param nextRunnable 다음에 실행할 코드 블록
+     * @deprecated {@code start(...).thenAcceptSync(...)}을 사용하세요.
      */
+    @Deprecated
     void thenSync(Runnable nextRunnable);
 
     /**
      * 현재 작업이 완료된 후(단일 작업) 또는 종료된 후(반복 작업)
      * 비동기 스레드에서 실행될 다음 작업을 예약합니다.
-     * * @param nextRunnable 다음에 실행할 코드 블록
+     * @param nextRunnable 다음에 실행할 코드 블록
+     * @deprecated {@code start(...).thenAcceptAsync(...)}을 사용하세요.
      */
+    @Deprecated
     void thenAsync(Runnable nextRunnable);
 }
@@ -0,0 +1,90 @@
+package io.github.snow1026.snowlib.api.task;
+
+import io.github.snow1026.snowlib.internal.task.VirtualPool;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * {@link Tasker#virtual()} 작업이 실행되는 가상 스레드 풀의 설정과 지표입니다.
+ * <p>
+ * 동시에 실행되는 작업 수는 플러그인마다 제한되며, 한도를 넘는 작업은 대기열에서 차례를 기다립니다.
+ * 플러그인이 비활성화되면 대기 중인 작업은 버려지고 실행 중인 작업에는 인터럽트가 전달됩니다.
+ * </p>
+ */
+public final class VirtualTasks {
+
+    private VirtualTasks() {}
+
+    /**
+     * 플러그인의 동시 실행 한도를 설정합니다. 실행 중인 작업이 한도보다 많다면 끝나는 대로 반영됩니다.
+     *
+     * @param plugin 대상 플러그인
+     * @param limit  동시에 실행할 최대 작업 수
+     * @throws IllegalArgumentException 한도가 1 미만인 경우
+     */
+    public static void setLimit(Plugin plugin, int limit) {
+        VirtualPool.limit(plugin, limit);
+    }
+
+    /**
+     * @param plugin 대상 플러그인
+     * @return 플러그인의 동시 실행 한도
+     */
+    public static int getLimit(Plugin plugin) {
+        return VirtualPool.limit(plugin);
+    }
+
+    /**
+     * 한도를 따로 설정하지 않은 플러그인에 적용할 동시 실행 한도를 설정합니다. (기본값: 256)
+     * 이미 작업을 실행한 플러그인에는 적용되지 않습니다.
+     *
+     * @param limit 동시에 실행할 최대 작업 수
+     * @throws IllegalArgumentException 한도가 1 미만인 경우
+     */
+    public static void setDefaultLimit(int limit) {
+        VirtualPool.defaultLimit(limit);
+    }
+
+    /**
+     * @return 기본 동시 실행 한도
+     */
+    public static int getDefaultLimit() {
+        return VirtualPool.defaultLimit();
+    }
+
+    /**
+     * @return 실행 중인 작업 수
+     */
+    public static int inFlight() {
+        return VirtualPool.inFlight();
+    }
+
+    /**
+     * @param plugin 대상 플러그인
+     * @return 플러그인의 실행 중인 작업 수
+     */
+    public static int inFlight(Plugin plugin) {
+        return VirtualPool.inFlight(plugin);
+    }
+
+    /**
+     * @return 한도 때문에 실행을 기다리는 작업 수
+     */
+    public static int queued() {
+        return VirtualPool.queued();
+    }
+
+    /**
+     * @param plugin 대상 플러그인
+     * @return 플러그인의 실행을 기다리는 작업 수
+     */
+    public static int queued(Plugin plugin) {
+        return VirtualPool.queued(plugin);
+    }
+
+    /**
+     * @return 지금까지 실행을 마친 작업 수
+     */
+    public static long totalCompleted() {
+        return VirtualPool.totalCompleted();
+    }
+}
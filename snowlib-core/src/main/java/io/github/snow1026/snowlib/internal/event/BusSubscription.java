@@ -0,0 +1,144 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.api.event.Subscription;
+import io.github.snow1026.snowlib.internal.task.SnowTicker;
+import io.github.snow1026.snowlib.internal.task.TimerWheel;
+import org.bukkit.event.EventPriority;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+
+/**
+ * {@link SnowEventBus}에 등록된 구독 하나입니다.
+ *
+ * @param <E> 이벤트 타입
+ */
+final class BusSubscription<E> implements Subscription {
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private final SnowEventBus bus;
+    private final Class<E> type;
+    private final Consumer<E> handler;
+    private final Predicate<E> filter;
+    private final EventPriority priority;
+    private final int executionLimit;
+    private final boolean async;
+    private final BiConsumer<E, Throwable> exceptionHandler;
+    private final long order = sequence.incrementAndGet();
+
+    private final AtomicInteger callCount = new AtomicInteger();
+    private final AtomicBoolean active = new AtomicBoolean(true);
+    private volatile TimerWheel.Timeout expiryTimeout;
+    private volatile boolean closed;
+
+    BusSubscription(SnowEventBus bus, Class<E> type, Consumer<E> handler, Predicate<E> filter, EventPriority priority, int executionLimit, boolean async, BiConsumer<E, Throwable> exceptionHandler) {
+        this.bus = bus;
+        this.type = type;
+        this.handler = handler;
+        this.filter = filter;
+        this.priority = priority;
+        this.executionLimit = executionLimit;
+        this.async = async;
+        this.exceptionHandler = exceptionHandler;
+    }
+
+    /**
+     * @return 이벤트가 필터를 통과해 전달(또는 비동기 전달이 예약)되었다면 true
+     */
+    boolean deliver(Object event) {
+        if (!active.get()) return false;
+        E e = type.cast(event);
+
+        try {
+            if (filter != null && !filter.test(e)) return false;
+        } catch (Throwable t) {
+            fail(e, t);
+            return false;
+        }
+
+        // 실행 제한은 실행 전에 차감해, 비동기 전달이나 여러 스레드의 발행에서도 초과 실행되지 않게 합니다.
+        int count = callCount.incrementAndGet();
+        if (executionLimit > 0) {
+            if (count > executionLimit) return false;
+            if (count == executionLimit) unregister();
+        }
+
+        if (async) {
+            bus.workers().execute(() -> {
+                if (!closed) invoke(e);
+            });
+        } else {
+            invoke(e);
+        }
+        return true;
+    }
+
+    private void invoke(E e) {
+        try {
+            handler.accept(e);
+        } catch (Throwable t) {
+            fail(e, t);
+        }
+    }
+
+    private void fail(E e, Throwable t) {
+        if (exceptionHandler != null) {
+            exceptionHandler.accept(e, t);
+        } else {
+            bus.plugin().getLogger().log(Level.SEVERE, "[SnowLib] Exception in EventBus handler for " + type.getSimpleName(), t);
+        }
+    }
+
+    void expireAfter(long ticks) {
+        expiryTimeout = SnowTicker.schedule(ticks, this::unregister);
+    }
+
+    boolean deactivate() {
+        if (!active.compareAndSet(true, false)) return false;
+        TimerWheel.Timeout timeout = expiryTimeout;
+        if (timeout != null) timeout.cancel();
+        return true;
+    }
+
+    /**
+     * 구독을 해제하고, 아직 시작되지 않은 비동기 전달을 버립니다. 버스를 비울 때 호출됩니다.
+     */
+    void close() {
+        closed = true;
+        deactivate();
+    }
+
+    @Override
+    public void unregister() {
+        if (deactivate()) {
+            bus.remove(this);
+        }
+    }
+
+    Class<E> type() {
+        return type;
+    }
+
+    EventPriority priority() {
+        return priority;
+    }
+
+    long order() {
+        return order;
+    }
+
+    @Override
+    public boolean isActive() {
+        return active.get();
+    }
+
+    @Override
+    public int getCallCount() {
+        return Math.min(callCount.get(), executionLimit > 0 ? executionLimit : Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.Event;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 공간 한정 구독을 (월드, 청크 키)로 찾기 위한 인덱스입니다.
+ * <p>
+ * 청크 테이블은 원시 {@code long} 키를 사용하는 개방 주소법 해시 테이블이며,
+ * 변경 시 새 테이블을 만들어 교체하므로 이벤트 스레드에서는 잠금 없이 읽을 수 있습니다.
+ * 변경 메서드는 디스패처의 잠금 안에서만 호출됩니다.
+ * </p>
+ *
+ * @param <T> 이벤트 타입
+ */
+final class ChunkIndex<T extends Event> {
+    private volatile Map<UUID, ChunkTable> worlds = Map.of();
+
+    boolean isEmpty() {
+        return worlds.isEmpty();
+    }
+
+    /**
+     * 위치 {@code at}을 포함하는 구독을 실행합니다.
+     * {@code from}이 주어지면 (이동 이벤트) 출발 위치를 포함하는 구독도 중복 없이 실행합니다.
+     * {@code skipCancelled}이면 앞선 구독이 취소한 뒤의 구독은 실행하지 않습니다.
+     */
+    void dispatch(T e, Location at, Location from, boolean skipCancelled) {
+        Map<UUID, ChunkTable> snapshot = worlds;
+        UUID atWorld = worldId(at);
+        long atChunk = 0;
+
+        if (atWorld != null) {
+            atChunk = EventRegion.chunkKeyAt(at);
+            ChunkTable table = snapshot.get(atWorld);
+            if (table != null) {
+                SnowEventExecutor<T>[] targets = table.get(atChunk);
+                if (targets != null) {
+                    for (SnowEventExecutor<T> executor : targets) {
+                        if (skipCancelled && EventDispatcher.isCancelled(e)) return;
+                        EventRegion region = executor.route().region();
+                        if (region.contains(at) || region.contains(from)) executor.dispatch(e);
+                    }
+                }
+            }
+        }
+
+        if (from == null) return;
+        UUID fromWorld = worldId(from);
+        if (fromWorld == null) return;
+        long fromChunk = EventRegion.chunkKeyAt(from);
+        if (fromWorld.equals(atWorld) && fromChunk == atChunk) return;
+
+        ChunkTable table = snapshot.get(fromWorld);
+        if (table == null) return;
+        SnowEventExecutor<T>[] targets = table.get(fromChunk);
+        if (targets == null) return;
+        for (SnowEventExecutor<T> executor : targets) {
+            if (skipCancelled && EventDispatcher.isCancelled(e)) return;
+            EventRegion region = executor.route().region();
+            // 도착 청크에도 걸친 구독은 위에서 이미 처리되었습니다.
+            if (atWorld != null && region.covers(atWorld, atChunk)) continue;
+            if (region.contains(from)) executor.dispatch(e);
+        }
+    }
+
+    void add(SnowEventExecutor<T> executor) {
+        EventRegion region = executor.route().region();
+        Map<UUID, ChunkTable> next = new HashMap<>(worlds);
+        ChunkTable table = next.get(region.world());
+        table = table == null ? new ChunkTable(16) : table.copy();
+        for (long key : region.chunkKeys()) {
+            SnowEventExecutor<T>[] current = table.get(key);
+            table.put(key, current == null ? EventDispatcher.single(executor) : EventDispatcher.concat(current, EventDispatcher.single(executor)));
+        }
+        next.put(region.world(), table);
+        worlds = Map.copyOf(next);
+    }
+
+    void removeAll(Collection<? extends SnowEventExecutor<?>> removed, Set<Object> targets) {
+        Map<UUID, ChunkTable> next = new HashMap<>(worlds);
+        Map<UUID, ChunkTable> copied = new HashMap<>();
+        for (SnowEventExecutor<?> executor : removed) {
+            EventRegion region = executor.route().region();
+            if (region == null) continue;
+
+            ChunkTable table = copied.get(region.world());
+            if (table == null) {
+                ChunkTable current = next.get(region.world());
+                if (current == null) continue;
+                table = current.copy();
+                copied.put(region.world(), table);
+            }
+            for (long key : region.chunkKeys()) {
+                SnowEventExecutor<T>[] current = table.get(key);
+                if (current == null) continue;
+                SnowEventExecutor<T>[] remaining = EventDispatcher.without(current, targets);
+                if (remaining.length == 0) table.remove(key);
+                else table.put(key, remaining);
+            }
+        }
+        copied.forEach((world, table) -> {
+            if (table.size() == 0) next.remove(world);
+            else next.put(world, table);
+        });
+        worlds = Map.copyOf(next);
+    }
+
+    void drainTo(List<SnowEventExecutor<T>> out) {
+        for (ChunkTable table : worlds.values()) {
+            // 여러 청크에 걸친 구독은 중복으로 담기지만, 비활성화는 멱등이므로 문제없습니다.
+            table.forEachValue(targets -> out.addAll(Arrays.asList(targets)));
+        }
+        worlds = Map.of();
+    }
+
+    private static UUID worldId(Location location) {
+        if (location == null) return null;
+        World world = location.getWorld();
+        return world != null ? world.getUID() : null;
+    }
+
+    /**
+     * {@code long} 키 → 구독 배열 개방 주소법(선형 탐사) 해시 테이블입니다.
+     * 빈 슬롯은 값이 {@code null}인 것으로 구분하므로 0도 유효한 키입니다.
+     */
+    private final class ChunkTable {
+        private long[] keys;
+        private Object[] values;
+        private int size;
+
+        ChunkTable(int capacity) {
+            int cap = Integer.highestOneBit(Math.max(4, capacity) - 1) << 1;
+            this.keys = new long[cap];
+            this.values = new Object[cap];
+        }
+
+        private ChunkTable(long[] keys, Object[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        ChunkTable copy() {
+            return new ChunkTable(keys.clone(), values.clone(), size);
+        }
+
+        int size() {
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        SnowEventExecutor<T>[] get(long key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) return (SnowEventExecutor<T>[]) values[i];
+            }
+            return null;
+        }
+
+        void put(long key, SnowEventExecutor<T>[] value) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            for (; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+            }
+            keys[i] = key;
+            values[i] = value;
+            if (++size * 2 > keys.length) resize(keys.length << 1);
+        }
+
+        void remove(long key) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (values[i] != null && keys[i] != key) i = (i + 1) & mask;
+            if (values[i] == null) return;
+
+            // 선형 탐사 체인을 유지하기 위해 뒤쪽 항목을 당겨옵니다 (backward shift deletion).
+            values[i] = null;
+            size--;
+            for (int j = (i + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+                int home = mix(keys[j]) & mask;
+                if (((j - home) & mask) >= ((j - i) & mask)) {
+                    keys[i] = keys[j];
+                    values[i] = values[j];
+                    values[j] = null;
+                    i = j;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void forEachValue(Consumer<SnowEventExecutor<T>[]> action) {
+            for (Object value : values) {
+                if (value != null) action.accept((SnowEventExecutor<T>[]) value);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new long[capacity];
+            values = new Object[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) put(oldKeys[i], (SnowEventExecutor<T>[]) oldValues[i]);
+            }
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.internal.task.SnowTicker;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * 이벤트 스냅샷을 미리 할당된 버퍼에 모았다가 목록으로 한 번에 전달하는 처리 단계입니다.
+ * <p>
+ * 묶음은 첫 스냅샷이 들어온 틱부터 지정한 틱 수가 지난 틱의 끝({@link #flushDue()})이나, 버퍼가 가득 찬 즉시 전달됩니다.
+ * 비동기 모드에서는 묶음이 가상 스레드에서 처리되지만, 같은 구독의 묶음은 항상 만들어진 순서대로 하나씩 처리됩니다.
+ * 구독이 해제되면 남아 있는 묶음도 전달되지만, 플러그인이 비활성화되어 해제될 때는 버려집니다.
+ * 아직 처리되지 않은 비동기 묶음도 플러그인이 비활성화된 뒤에는 실행되지 않습니다.
+ * </p>
+ *
+ * @param <T> 이벤트 타입
+ * @param <S> 스냅샷 타입
+ */
+public final class EventBatcher<T extends Event, S> implements EventStage<T> {
+    private static final Set<EventBatcher<?, ?>> pending = ConcurrentHashMap.newKeySet();
+
+    private final Function<T, S> snapshot;
+    private final Consumer<List<S>> handler;
+
+    private int maxSize = 256;
+    private long maxTicks = 1;
+    private boolean async;
+    private Plugin plugin;
+    private String name;
+
+    private Object[] buffer;
+    private int count;
+    private long deadline;
+    private boolean closed;
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+    EventBatcher(Function<T, S> snapshot, Consumer<List<S>> handler) {
+        this.snapshot = snapshot;
+        this.handler = handler;
+    }
+
+    /**
+     * 기한이 된 묶음을 모두 전달합니다. 매 틱이 끝날 때 메인 스레드에서 호출됩니다.
+     */
+    public static void flushDue() {
+        if (pending.isEmpty()) return;
+        long tick = SnowTicker.currentTick();
+        for (EventBatcher<?, ?> batcher : pending) {
+            batcher.flushIfDue(tick);
+        }
+    }
+
+    void configure(int maxSize, long maxTicks) {
+        if (maxSize < 1) throw new IllegalArgumentException("Batch size must be at least 1: " + maxSize);
+        if (maxTicks < 1) throw new IllegalArgumentException("Batch window must be at least 1 tick: " + maxTicks);
+        this.maxSize = maxSize;
+        this.maxTicks = maxTicks;
+    }
+
+    void async(boolean async) {
+        this.async = async;
+    }
+
+    void open(Plugin plugin, String name) {
+        this.plugin = plugin;
+        this.name = name;
+        this.buffer = new Object[maxSize];
+    }
+
+    @Override
+    public void accept(T e) {
+        S value = snapshot.apply(e);
+        if (value == null) return;
+
+        List<S> full = null;
+        synchronized (this) {
+            if (closed) return;
+            if (count == 0) {
+                // 첫 스냅샷이 들어온 틱을 포함해 maxTicks 틱째의 끝에 전달합니다.
+                deadline = SnowTicker.currentTick() + maxTicks - 1;
+                pending.add(this);
+            }
+            buffer[count++] = value;
+            if (count == buffer.length) full = drain();
+        }
+        if (full != null) deliver(full);
+    }
+
+    @Override
+    public void close() {
+        List<S> rest;
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            rest = count > 0 ? drain() : null;
+        }
+        // 비활성화 중인 플러그인에는 남은 묶음을 넘기지 않습니다.
+        if (rest != null && plugin.isEnabled() && !EventSubscriptions.isDisabling(plugin)) deliver(rest);
+    }
+
+    private void flushIfDue(long tick) {
+        List<S> batch;
+        synchronized (this) {
+            if (count == 0 || tick < deadline) return;
+            batch = drain();
+        }
+        deliver(batch);
+    }
+
+    // 버퍼는 재사용하고, 전달할 목록만 새로 복사합니다.
+    @SuppressWarnings("unchecked")
+    private List<S> drain() {
+        List<S> batch = (List<S>) List.of(Arrays.copyOf(buffer, count));
+        Arrays.fill(buffer, 0, count, null);
+        count = 0;
+        pending.remove(this);
+        return batch;
+    }
+
+    private void deliver(List<S> batch) {
+        if (!async) {
+            run(batch);
+            return;
+        }
+        synchronized (this) {
+            tail = tail.thenRunAsync(() -> run(batch), EventOffload.workers);
+        }
+    }
+
+    private void run(List<S> batch) {
+        if (!plugin.isEnabled()) return;
+        try {
+            handler.accept(batch);
+        } catch (Throwable t) {
+            plugin.getLogger().log(Level.SEVERE, "[SnowLib] Exception in batch handler for " + name + " (" + batch.size() + " snapshot(s))", t);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.internal.task.SnowTicker;
+import io.github.snow1026.snowlib.internal.task.TimerWheel;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * 틱 구간 동안 키마다 마지막 이벤트만 남겨 두었다가, 구간이 끝나면 핸들러를 한 번씩 호출하는 처리 단계입니다.
+ * <p>
+ * 구간은 그 구간의 첫 이벤트가 들어올 때 {@link SnowTicker}에 예약되므로, 이벤트가 없으면 아무 작업도 하지 않습니다.
+ * 핸들러 작업량은 이벤트 수가 아니라 구간 내 서로 다른 키의 수에 비례합니다.
+ * 키 함수가 없으면 구간 전체에서 마지막 이벤트 하나만 전달됩니다.
+ * 실행 제한이나 만료로 구독이 해제되어도 진행 중인 구간은 원래 시점에 전달되며, 플러그인이 비활성화된 경우에만 버려집니다.
+ * </p>
+ *
+ * @param <T> 이벤트 타입
+ */
+final class EventCoalescer<T extends Event> implements EventStage<T> {
+    private final Consumer<T> handler;
+    private final Function<T, ?> keyExtractor;
+    private final long windowTicks;
+    private final Plugin plugin;
+    private final BiConsumer<T, Throwable> exceptionHandler;
+
+    private Map<Object, T> pending = new LinkedHashMap<>();
+    private T latest;
+    private TimerWheel.Timeout flush;
+    private boolean closed;
+
+    EventCoalescer(Consumer<T> handler, Function<T, ?> keyExtractor, long windowTicks, Plugin plugin, BiConsumer<T, Throwable> exceptionHandler) {
+        this.handler = handler;
+        this.keyExtractor = keyExtractor;
+        this.windowTicks = Math.max(1, windowTicks);
+        this.plugin = plugin;
+        this.exceptionHandler = exceptionHandler;
+    }
+
+    @Override
+    public void accept(T e) {
+        Object key = keyExtractor != null ? keyExtractor.apply(e) : null;
+        synchronized (this) {
+            if (closed) return;
+            if (keyExtractor != null) {
+                // 기존 키를 다시 넣어도 순서는 처음 들어온 순서를 유지합니다.
+                pending.put(key, e);
+            } else {
+                latest = e;
+            }
+            if (flush == null) {
+                flush = SnowTicker.schedule(windowTicks, this::flush);
+            }
+        }
+    }
+
+    private void flush() {
+        List<T> batch;
+        boolean last;
+        synchronized (this) {
+            flush = null;
+            last = closed;
+            if (keyExtractor != null) {
+                batch = new ArrayList<>(pending.values());
+                pending = new LinkedHashMap<>();
+            } else {
+                batch = latest != null ? List.of(latest) : List.of();
+                latest = null;
+            }
+        }
+
+        if (plugin.isEnabled()) deliver(batch);
+        // 해제된 뒤 마지막 구간까지 전달했으므로 뒤 단계를 닫습니다.
+        if (last && handler instanceof EventStage<?> next) next.close();
+    }
+
+    private void deliver(List<T> batch) {
+        for (T e : batch) {
+            try {
+                handler.accept(e);
+            } catch (Throwable t) {
+                if (exceptionHandler != null) {
+                    exceptionHandler.accept(e, t);
+                } else {
+                    plugin.getLogger().log(Level.SEVERE, "[SnowLib] Exception in coalesced handler for " + e.getEventName(), t);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            // 보류 중인 구간은 예약된 flush가 전달한 뒤 뒤 단계를 닫습니다.
+            if (flush != null && plugin.isEnabled()) return;
+            if (flush != null) flush.cancel();
+            flush = null;
+            pending = new LinkedHashMap<>();
+            latest = null;
+        }
+        if (handler instanceof EventStage<?> next) next.close();
+    }
+}
@@ -0,0 +1,260 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (이벤트 타입, 우선순위, ignoreCancelled, 플러그인) 조합마다 하나씩만 Bukkit에 등록되는 공유 디스패처입니다.
+ * <p>
+ * 개별 구독은 Bukkit {@code HandlerList}에 직접 등록되지 않고, 이 디스패처가 가진
+ * copy-on-write 배열에 추가/제거됩니다. 따라서 구독 등록·해제 시 {@code HandlerList.bake()}가 발생하지 않습니다.
+ * </p>
+ * <p>
+ * 특정 플레이어/엔티티나 월드에 묶인 구독은 전역 배열이 아닌 UUID 해시 인덱스에 놓이므로,
+ * 이벤트마다 해당 주체의 구독만 조회되고 나머지는 순회하지 않습니다.
+ * 공간 한정 구독은 월드별 청크 키 인덱스에 놓여, 이벤트 위치의 청크에 걸친 구독만 검사됩니다.
+ * 같은 우선순위 안에서 전역 구독과 인덱스 구독 사이의 실행 순서는 보장되지 않습니다.
+ * </p>
+ *
+ * @param <T> 이벤트 타입
+ */
+public final class EventDispatcher<T extends Event> implements EventExecutor {
+    private static final Map<DispatchKey, EventDispatcher<?>> dispatchers = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("rawtypes")
+    private static final SnowEventExecutor[] EMPTY = new SnowEventExecutor[0];
+
+    private final DispatchKey key;
+    private final Class<T> type;
+    private final Listener listener = new SimpleEventListener();
+    private final Object lock = new Object();
+
+    @SuppressWarnings("unchecked")
+    private volatile SnowEventExecutor<T>[] executors = EMPTY;
+    private final Map<UUID, SnowEventExecutor<T>[]> bySubject = new ConcurrentHashMap<>();
+    private final Map<UUID, SnowEventExecutor<T>[]> byWorld = new ConcurrentHashMap<>();
+    private final ChunkIndex<T> byChunk = new ChunkIndex<>();
+    private volatile boolean closed;
+
+    private EventDispatcher(DispatchKey key, Class<T> type) {
+        this.key = key;
+        this.type = type;
+    }
+
+    /**
+     * 주어진 조합에 해당하는 디스패처를 반환하며, 없을 경우 생성 후 Bukkit에 한 번만 등록합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Event> EventDispatcher<T> of(Class<T> type, EventPriority priority, boolean ignoreCancelled, Plugin plugin) {
+        DispatchKey key = new DispatchKey(type, priority, ignoreCancelled, plugin);
+        return (EventDispatcher<T>) dispatchers.computeIfAbsent(key, k -> {
+            EventDispatcher<T> dispatcher = new EventDispatcher<>(k, type);
+            Bukkit.getPluginManager().registerEvent(type, dispatcher.listener, priority, dispatcher, plugin, ignoreCancelled);
+            return dispatcher;
+        });
+    }
+
+    /**
+     * 특정 플러그인이 소유한 모든 디스패처를 폐기하고 소속 구독을 비활성화합니다.
+     * 플러그인 비활성화 시 Bukkit이 리스너를 이미 제거하므로, 내부 상태만 정리합니다.
+     *
+     * @param plugin 비활성화된 플러그인
+     */
+    public static void unregisterAll(Plugin plugin) {
+        dispatchers.values().removeIf(dispatcher -> {
+            if (dispatcher.key.plugin() != plugin) return false;
+            dispatcher.clear();
+            return true;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void execute(@NotNull Listener listener, @NotNull Event event) {
+        // 자체 HandlerList가 없는 하위 타입에 등록된 경우 상위 이벤트도 전달되므로 타입을 확인합니다.
+        if (!type.isInstance(event)) return;
+
+        T e = (T) event;
+        boolean skipCancelled = key.ignoreCancelled();
+        dispatchAll(executors, e, skipCancelled);
+
+        if (!bySubject.isEmpty()) {
+            Entity subject = EventSubjects.entity(e);
+            if (subject != null) {
+                dispatchAll(bySubject.get(subject.getUniqueId()), e, skipCancelled);
+            }
+        }
+
+        if (!byWorld.isEmpty()) {
+            World world = EventSubjects.world(e);
+            if (world != null) {
+                dispatchAll(byWorld.get(world.getUID()), e, skipCancelled);
+            }
+        }
+
+        if (!byChunk.isEmpty()) {
+            if (e instanceof PlayerMoveEvent move) {
+                byChunk.dispatch(e, move.getTo(), move.getFrom(), skipCancelled);
+            } else {
+                Location at = EventSubjects.location(e);
+                if (at != null) byChunk.dispatch(e, at, null, skipCancelled);
+            }
+        }
+    }
+
+    private static <T extends Event> void dispatchAll(SnowEventExecutor<T>[] targets, T e, boolean skipCancelled) {
+        if (targets == null) return;
+        for (SnowEventExecutor<T> executor : targets) {
+            if (skipCancelled && isCancelled(e)) return;
+            executor.dispatch(e);
+        }
+    }
+
+    /**
+     * Bukkit은 ignoreCancelled를 공유 리스너에 한 번만 검사하므로, 앞선 구독이 취소한 이벤트는 구독마다 다시 확인합니다.
+     */
+    static boolean isCancelled(Event e) {
+        return e instanceof Cancellable c && c.isCancelled();
+    }
+
+    void add(SnowEventExecutor<T> executor) {
+        EventRoute route = executor.route();
+        synchronized (lock) {
+            // 폐기된 디스패처에 다시 들어오는 구독(일시 중단 후 재개 등)은 곧바로 비활성화합니다.
+            if (closed) {
+                executor.deactivate();
+                return;
+            }
+            if (route.subject() != null) {
+                bySubject.merge(route.subject(), single(executor), EventDispatcher::concat);
+            } else if (route.region() != null) {
+                byChunk.add(executor);
+            } else if (route.world() != null) {
+                byWorld.merge(route.world(), single(executor), EventDispatcher::concat);
+            } else {
+                executors = concat(executors, single(executor));
+            }
+        }
+    }
+
+    Plugin plugin() {
+        return key.plugin();
+    }
+
+    Class<T> type() {
+        return type;
+    }
+
+    EventPriority priority() {
+        return key.priority();
+    }
+
+    void remove(SnowEventExecutor<T> executor) {
+        removeAll(List.of(executor));
+    }
+
+    /**
+     * 여러 구독을 한 번의 순회와 인덱스 키당 한 번의 배열 교체로 제거합니다.
+     */
+    void removeAll(Collection<? extends SnowEventExecutor<?>> removed) {
+        if (removed.isEmpty()) return;
+        Set<Object> targets = Collections.newSetFromMap(new IdentityHashMap<>(removed.size()));
+        targets.addAll(removed);
+
+        // 영향을 받는 인덱스 키만 모아 각각 한 번씩 재구성합니다.
+        boolean global = false;
+        boolean spatial = false;
+        Set<UUID> subjectKeys = new HashSet<>();
+        Set<UUID> worldKeys = new HashSet<>();
+        for (SnowEventExecutor<?> executor : removed) {
+            EventRoute route = executor.route();
+            if (route.subject() != null) subjectKeys.add(route.subject());
+            else if (route.region() != null) spatial = true;
+            else if (route.world() != null) worldKeys.add(route.world());
+            else global = true;
+        }
+
+        synchronized (lock) {
+            if (global) {
+                executors = without(executors, targets);
+            }
+            for (UUID subject : subjectKeys) {
+                bySubject.computeIfPresent(subject, (k, current) -> emptyToNull(without(current, targets)));
+            }
+            for (UUID world : worldKeys) {
+                byWorld.computeIfPresent(world, (k, current) -> emptyToNull(without(current, targets)));
+            }
+            if (spatial) {
+                byChunk.removeAll(removed, targets);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void clear() {
+        List<SnowEventExecutor<T>> current = new ArrayList<>();
+        synchronized (lock) {
+            closed = true;
+            current.addAll(Arrays.asList(executors));
+            bySubject.values().forEach(targets -> current.addAll(Arrays.asList(targets)));
+            byWorld.values().forEach(targets -> current.addAll(Arrays.asList(targets)));
+            byChunk.drainTo(current);
+            executors = EMPTY;
+            bySubject.clear();
+            byWorld.clear();
+        }
+        for (SnowEventExecutor<T> executor : current) {
+            executor.deactivate();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T extends Event> SnowEventExecutor<T>[] single(SnowEventExecutor<T> executor) {
+        SnowEventExecutor<T>[] array = new SnowEventExecutor[1];
+        array[0] = executor;
+        return array;
+    }
+
+    static <T extends Event> SnowEventExecutor<T>[] concat(SnowEventExecutor<T>[] current, SnowEventExecutor<T>[] added) {
+        SnowEventExecutor<T>[] next = Arrays.copyOf(current, current.length + added.length);
+        System.arraycopy(added, 0, next, current.length, added.length);
+        return next;
+    }
+
+    static <T extends Event> SnowEventExecutor<T>[] without(SnowEventExecutor<T>[] current, Set<Object> targets) {
+        SnowEventExecutor<T>[] next = Arrays.copyOf(current, current.length);
+        int size = 0;
+        for (SnowEventExecutor<T> executor : current) {
+            if (!targets.contains(executor)) next[size++] = executor;
+        }
+        return size == current.length ? current : Arrays.copyOf(next, size);
+    }
+
+    private static <T extends Event> SnowEventExecutor<T>[] emptyToNull(SnowEventExecutor<T>[] array) {
+        return array.length == 0 ? null : array;
+    }
+
+    private record DispatchKey(Class<? extends Event> type, EventPriority priority, boolean ignoreCancelled, Plugin plugin) {}
+}
@@ -0,0 +1,127 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.api.event.OverflowStrategy;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * 이벤트에서 스냅샷만 동기적으로 추출하고, 나머지 처리를 가상 스레드에서 실행하는 핸들러입니다.
+ * <p>
+ * 구독마다 크기가 제한된 대기열과 최대 하나의 작업 스레드를 가지므로, 작업은 이벤트 발생 순서대로 처리되고
+ * 동시에 실행되는 작업 수는 오프로드 구독 수와 공유 실행기의 한도를 넘지 않습니다. 대기열이 가득 차면 {@link OverflowStrategy}에 따라
+ * 스냅샷을 버리거나 교체하며, 메인 스레드는 절대 기다리지 않습니다.
+ * </p>
+ *
+ * @param <T> 이벤트 타입
+ * @param <S> 스냅샷 타입
+ */
+final class EventOffload<T extends Event, S> implements EventStage<T> {
+    // 동시에 실행할 수 있는 최대 작업 수
+    private static final int MAX_WORKERS = 256;
+
+    /**
+     * 오프로드, 묶음 전달, 발행기가 함께 쓰는 작업 실행기입니다. 이 단계들은 구독마다 한 번에 작업 하나만 넘깁니다.
+     * 동시에 실행되는 작업은 {@value #MAX_WORKERS}개로 제한되며, 나머지는 대기열에서 차례를 기다립니다.
+     * 이벤트 버스의 비동기 전달은 {@link SnowEventBus}의 실행기를 따로 씁니다.
+     */
+    static final Executor workers = new WorkerLane(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("SnowLib-Offload-", 0).factory()), MAX_WORKERS);
+
+    private final Function<T, S> snapshot;
+    private final Consumer<S> worker;
+    private final ArrayDeque<S> queue = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private int capacity = 1024;
+    private OverflowStrategy overflow = OverflowStrategy.DROP_NEWEST;
+    private Plugin plugin;
+    private String name;
+    private long dropped;
+    private volatile boolean closed;
+
+    EventOffload(Function<T, S> snapshot, Consumer<S> worker) {
+        this.snapshot = snapshot;
+        this.worker = worker;
+    }
+
+    void configure(int capacity, OverflowStrategy overflow) {
+        if (capacity < 1) throw new IllegalArgumentException("Queue capacity must be at least 1: " + capacity);
+        this.capacity = capacity;
+        this.overflow = overflow;
+    }
+
+    void open(Plugin plugin, String name) {
+        this.plugin = plugin;
+        this.name = name;
+    }
+
+    /**
+     * 대기 중인 스냅샷을 버리고 더 이상 받지 않습니다. 실행 중인 작업은 끝까지 진행됩니다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (queue) {
+            queue.clear();
+        }
+    }
+
+    /**
+     * 메인 스레드에서 스냅샷을 추출해 대기열에 넣습니다. 스냅샷이 {@code null}이면 아무 작업도 예약하지 않습니다.
+     */
+    @Override
+    public void accept(T e) {
+        S value = snapshot.apply(e);
+        if (value == null) return;
+
+        long droppedNow = -1;
+        synchronized (queue) {
+            if (closed) return;
+            if (queue.size() >= capacity) {
+                droppedNow = ++dropped;
+                switch (overflow) {
+                    case DROP_NEWEST -> value = null;
+                    case DROP_OLDEST -> queue.pollFirst();
+                    case COALESCE -> queue.pollLast();
+                }
+            }
+            if (value != null) queue.addLast(value);
+        }
+
+        // 버려진 수가 2의 거듭제곱이 될 때만 기록해 로그가 폭주하지 않게 합니다.
+        if (droppedNow > 0 && (droppedNow & (droppedNow - 1)) == 0) {
+            plugin.getLogger().warning("[SnowLib] Offload queue for " + name + " is full (" + overflow + "), " + droppedNow + " snapshot(s) dropped so far");
+        }
+
+        if (value != null && draining.compareAndSet(false, true)) {
+            workers.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            S next;
+            synchronized (queue) {
+                next = queue.pollFirst();
+                if (next == null) {
+                    // 잠금 안에서 내려야 accept()가 넣은 값을 놓치지 않습니다.
+                    draining.set(false);
+                    return;
+                }
+            }
+
+            try {
+                worker.accept(next);
+            } catch (Throwable t) {
+                plugin.getLogger().log(Level.SEVERE, "[SnowLib] Exception in offloaded handler for " + name, t);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.api.event.OverflowStrategy;
+import io.github.snow1026.snowlib.api.event.Subscription;
+import org.bukkit.event.Event;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * 이벤트 스냅샷을 {@link Flow.Publisher}로 발행합니다.
+ * <p>
+ * 구독자가 붙을 때마다 빌더 설정으로 새 이벤트 구독이 등록되며(콜드 발행자), 구독자를 취소하면 이벤트 구독도 해제됩니다.
+ * 반대로 실행 제한이나 만료, 플러그인 비활성화로 이벤트 구독이 끝나면 남은 스냅샷을 전달한 뒤 {@code onComplete}가 호출됩니다.
+ * 신호는 가상 스레드에서 순서대로 전달되므로 메인 스레드는 구독자를 기다리지 않으며,
+ * 구독자가 요청한 양보다 많이 쌓인 스냅샷은 크기가 제한된 버퍼에서 {@link OverflowStrategy}에 따라 처리됩니다.
+ * </p>
+ *
+ * @param <T> 이벤트 타입
+ * @param <S> 스냅샷 타입
+ */
+final class EventPublisher<T extends Event, S> implements Flow.Publisher<S> {
+    private final SnowEvents<T> builder;
+    private final Function<T, S> snapshot;
+    private final int capacity;
+    private final OverflowStrategy overflow;
+
+    EventPublisher(SnowEvents<T> builder, Function<T, S> snapshot, int capacity, OverflowStrategy overflow) {
+        if (capacity < 1) throw new IllegalArgumentException("Buffer capacity must be at least 1: " + capacity);
+        this.builder = builder;
+        this.snapshot = snapshot;
+        this.capacity = capacity;
+        this.overflow = Objects.requireNonNull(overflow, "overflow");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super S> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        Bridge bridge = new Bridge(subscriber);
+        subscriber.onSubscribe(bridge);
+        try {
+            bridge.attach(builder.register(bridge));
+        } catch (RuntimeException e) {
+            bridge.fail(e);
+        }
+    }
+
+    private final class Bridge implements EventStage<T>, Flow.Subscription {
+        private final Flow.Subscriber<? super S> subscriber;
+        private final ArrayDeque<S> buffer = new ArrayDeque<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile Subscription registration;
+        private volatile boolean cancelled;
+        private volatile boolean done;
+        private volatile Throwable error;
+        private boolean terminated;
+
+        private Bridge(Flow.Subscriber<? super S> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void attach(Subscription registration) {
+            this.registration = registration;
+            if (cancelled) registration.unregister();
+        }
+
+        // 더 이상 스냅샷을 받지 않고, 버퍼에 남은 값과 관계없이 오류를 전달합니다.
+        void fail(Throwable t) {
+            error = t;
+            done = true;
+            Subscription current = registration;
+            if (current != null) current.unregister();
+            synchronized (buffer) {
+                buffer.clear();
+            }
+            drain();
+        }
+
+        // 이벤트 스레드(주로 메인 스레드)에서 호출됩니다.
+        @Override
+        public void accept(T e) {
+            S value = snapshot.apply(e);
+            if (value == null) return;
+
+            synchronized (buffer) {
+                if (cancelled || done) return;
+                if (buffer.size() >= capacity) {
+                    switch (overflow) {
+                        case DROP_NEWEST -> {
+                            return;
+                        }
+                        case DROP_OLDEST -> buffer.pollFirst();
+                        case COALESCE -> buffer.pollLast();
+                    }
+                }
+                buffer.addLast(value);
+            }
+            drain();
+        }
+
+        // 이벤트 구독이 끝났을 때 호출됩니다. 남은 스냅샷을 전달한 뒤 완료 신호를 보냅니다.
+        @Override
+        public void close() {
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Reactive Streams 규칙 3.9
+                fail(new IllegalArgumentException("Flow.Subscription.request requires a positive amount: " + n));
+                return;
+            }
+            requested.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            Subscription current = registration;
+            if (current != null) current.unregister();
+            synchronized (buffer) {
+                buffer.clear();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) {
+                EventOffload.workers.execute(this::emitLoop);
+            }
+        }
+
+        private void emitLoop() {
+            int missed = 1;
+            do {
+                if (terminated) return;
+
+                long budget = requested.get();
+                long emitted = 0;
+                while (emitted < budget && !cancelled && error == null) {
+                    S next;
+                    synchronized (buffer) {
+                        next = buffer.pollFirst();
+                    }
+                    if (next == null) break;
+                    try {
+                        subscriber.onNext(next);
+                    } catch (Throwable t) {
+                        builder.plugin().getLogger().log(Level.SEVERE, "[SnowLib] Flow subscriber threw from onNext; cancelling", t);
+                        cancel();
+                        terminated = true;
+                        return;
+                    }
+                    emitted++;
+                }
+                if (emitted > 0 && budget != Long.MAX_VALUE) requested.addAndGet(-emitted);
+
+                if (!cancelled && done) {
+                    boolean empty;
+                    synchronized (buffer) {
+                        empty = buffer.isEmpty();
+                    }
+                    Throwable failure = error;
+                    if (failure != null || empty) {
+                        terminated = true;
+                        if (failure != null) subscriber.onError(failure);
+                        else subscriber.onComplete();
+                        return;
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 공간 한정 구독의 범위입니다. 월드 + AABB 또는 월드 + 청크 집합 중 하나의 형태를 가집니다.
+ * <p>
+ * 청크 키는 Paper의 {@code Chunk#getChunkKey()}와 같은 형식(하위 32비트 x, 상위 32비트 z)을 사용합니다.
+ * AABB가 {@value #MAX_INDEXED_CHUNKS}개보다 많은 청크에 걸치면 청크 인덱스에 넣지 않고, 월드 인덱스와 범위 필터로 검사합니다.
+ * </p>
+ */
+final class EventRegion {
+    /**
+     * 청크 인덱스에 넣을 수 있는 AABB의 최대 청크 수입니다. (64 × 64 청크)
+     */
+    static final int MAX_INDEXED_CHUNKS = 4096;
+
+    private final UUID world;
+    private final BoundingBox box;
+    private final long[] chunks;
+
+    private EventRegion(UUID world, BoundingBox box, long[] chunks) {
+        this.world = world;
+        this.box = box;
+        this.chunks = chunks;
+    }
+
+    static EventRegion of(World world, BoundingBox box) {
+        return new EventRegion(world.getUID(), box.clone(), null);
+    }
+
+    static EventRegion ofChunks(World world, long... chunkKeys) {
+        long[] sorted = chunkKeys.clone();
+        Arrays.sort(sorted);
+        return new EventRegion(world.getUID(), null, sorted);
+    }
+
+    static long chunkKey(int chunkX, int chunkZ) {
+        return (long) chunkX & 0xffffffffL | ((long) chunkZ & 0xffffffffL) << 32;
+    }
+
+    static long chunkKeyAt(Location location) {
+        return chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    UUID world() {
+        return world;
+    }
+
+    /**
+     * @return 이 범위가 겹치는 청크 수
+     */
+    long chunkCount() {
+        if (chunks != null) return chunks.length;
+        // 월드 경계 근처의 큰 범위는 int 곱셈이 넘칠 수 있으므로 long으로 계산합니다.
+        long width = (long) (floor(box.getMaxX()) >> 4) - (floor(box.getMinX()) >> 4) + 1;
+        long depth = (long) (floor(box.getMaxZ()) >> 4) - (floor(box.getMinZ()) >> 4) + 1;
+        return width * depth;
+    }
+
+    /**
+     * @return 청크 인덱스에 넣을 수 있는 크기라면 true
+     */
+    boolean indexable() {
+        return chunks != null || chunkCount() <= MAX_INDEXED_CHUNKS;
+    }
+
+    /**
+     * 이 범위가 겹치는 모든 청크 키를 반환합니다.
+     *
+     * @throws IllegalStateException 청크 인덱스에 넣기에 너무 큰 범위인 경우
+     */
+    long[] chunkKeys() {
+        if (chunks != null) return chunks;
+        if (!indexable()) throw new IllegalStateException("Region spans too many chunks to index: " + chunkCount());
+
+        int minX = floor(box.getMinX()) >> 4, maxX = floor(box.getMaxX()) >> 4;
+        int minZ = floor(box.getMinZ()) >> 4, maxZ = floor(box.getMaxZ()) >> 4;
+        long[] keys = new long[(int) chunkCount()];
+        int i = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                keys[i++] = chunkKey(x, z);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 이 범위가 주어진 월드의 청크와 겹치는지 확인합니다.
+     */
+    boolean covers(UUID worldId, long chunkKey) {
+        if (!world.equals(worldId)) return false;
+        if (chunks != null) return Arrays.binarySearch(chunks, chunkKey) >= 0;
+
+        int x = (int) chunkKey, z = (int) (chunkKey >>> 32);
+        return x >= floor(box.getMinX()) >> 4 && x <= floor(box.getMaxX()) >> 4
+                && z >= floor(box.getMinZ()) >> 4 && z <= floor(box.getMaxZ()) >> 4;
+    }
+
+    /**
+     * 주어진 위치가 이 범위 안에 있는지 확인합니다.
+     */
+    boolean contains(Location location) {
+        if (location == null) return false;
+        World w = location.getWorld();
+        if (w == null || !world.equals(w.getUID())) return false;
+        if (chunks != null) return Arrays.binarySearch(chunks, chunkKeyAt(location)) >= 0;
+        return box.contains(location.getX(), location.getY(), location.getZ());
+    }
+
+    private static int floor(double value) {
+        return (int) Math.floor(value);
+    }
+}
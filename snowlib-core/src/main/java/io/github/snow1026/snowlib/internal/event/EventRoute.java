@@ -0,0 +1,28 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import java.util.UUID;
+
+/**
+ * 구독이 디스패처의 어느 인덱스에 놓일지를 나타냅니다.
+ * 세 값 중 최대 하나만 설정되며, 모두 비어 있으면 전역 배열에 놓입니다.
+ * 인덱스로 선택되지 않은 나머지 한정 조건은 일반 필터로 검사됩니다.
+ *
+ * @param subject 주체(플레이어/엔티티) UUID
+ * @param world   월드 UUID
+ * @param region  공간 범위
+ */
+record EventRoute(UUID subject, UUID world, EventRegion region) {
+    static final EventRoute GLOBAL = new EventRoute(null, null, null);
+
+    /**
+     * 주체 → 공간 → 월드 순으로 가장 선택적인 인덱스 하나를 고릅니다.
+     * 청크 인덱스에 넣기에 너무 큰 공간은 그 월드의 인덱스에 놓습니다.
+     */
+    static EventRoute select(UUID subject, UUID world, EventRegion region) {
+        if (subject != null) return new EventRoute(subject, null, null);
+        if (region != null && region.indexable()) return new EventRoute(null, null, region);
+        if (region != null && world == null) return new EventRoute(null, region.world(), null);
+        if (world != null) return new EventRoute(null, world, null);
+        return GLOBAL;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import org.bukkit.event.Event;
+
+import java.util.function.Consumer;
+
+/**
+ * 사용자 핸들러 앞에 놓여 이벤트를 지연하거나 다른 스레드로 넘기는 처리 단계입니다.
+ * 구독이 해제되면 {@link #close()}가 호출되어 보류 중인 작업을 마무리합니다.
+ * 예약해 둔 타이머처럼 해제될 때 정리할 것이 있는 핸들러도 이 인터페이스로 해제를 알 수 있습니다.
+ *
+ * @param <T> 이벤트 타입
+ */
+public interface EventStage<T extends Event> extends Consumer<T> {
+    /**
+     * 더 이상 이벤트를 받지 않고, 뒤에 연결된 단계도 함께 닫습니다.
+     * 보류 중인 이벤트를 전달할지 버릴지는 단계마다 다르지만, 플러그인이 비활성화된 뒤에는 전달하지 않습니다.
+     */
+    void close();
+}
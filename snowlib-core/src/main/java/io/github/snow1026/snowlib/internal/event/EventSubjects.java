@@ -0,0 +1,82 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.block.BlockEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityEvent;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.world.WorldEvent;
+
+/**
+ * 이벤트에서 라우팅/필터링에 쓰이는 주체(플레이어, 엔티티, 블록, 월드)를 추출하는 내부 유틸리티입니다.
+ */
+public final class EventSubjects {
+    private EventSubjects() {}
+
+    /**
+     * 이벤트의 주체 엔티티를 반환합니다.
+     * {@link PlayerEvent}는 플레이어를, {@link EntityEvent}는 해당 엔티티를 반환합니다.
+     */
+    public static Entity entity(Event e) {
+        if (e instanceof PlayerEvent pe) return pe.getPlayer();
+        if (e instanceof EntityEvent ee) return ee.getEntity();
+        return null;
+    }
+
+    /**
+     * 해당 타입의 이벤트에서 {@link #entity(Event)}로 주체를 추출할 수 있는지 확인합니다.
+     */
+    public static boolean hasEntity(Class<? extends Event> type) {
+        return PlayerEvent.class.isAssignableFrom(type) || EntityEvent.class.isAssignableFrom(type);
+    }
+
+    /**
+     * 이벤트의 주체가 플레이어인 경우 해당 플레이어를 반환합니다.
+     */
+    public static Player player(Event e) {
+        if (e instanceof PlayerEvent pe) return pe.getPlayer();
+        if (e instanceof EntityEvent ee && ee.getEntity() instanceof Player p) return p;
+        return null;
+    }
+
+    /**
+     * 이벤트가 대상으로 하는 블록을 반환합니다.
+     * {@link BlockEvent}, {@link PlayerInteractEvent}, {@link ProjectileHitEvent}, {@link EntityChangeBlockEvent}를 처리합니다.
+     */
+    public static Block block(Event e) {
+        if (e instanceof BlockEvent be) return be.getBlock();
+        if (e instanceof PlayerInteractEvent pie) return pie.getClickedBlock();
+        if (e instanceof ProjectileHitEvent phe) return phe.getHitBlock();
+        if (e instanceof EntityChangeBlockEvent ecbe) return ecbe.getBlock();
+        return null;
+    }
+
+    /**
+     * 이벤트가 발생한 위치를 반환합니다.
+     * 블록 대상 이벤트는 블록 위치를, 그 외에는 주체 엔티티의 위치를 사용합니다.
+     */
+    public static Location location(Event e) {
+        if (e instanceof BlockEvent be) return be.getBlock().getLocation();
+        if (e instanceof PlayerInteractEvent pie && pie.getClickedBlock() != null) return pie.getClickedBlock().getLocation();
+        Entity entity = entity(e);
+        return entity != null ? entity.getLocation() : null;
+    }
+
+    /**
+     * 이벤트가 발생한 월드를 반환합니다.
+     */
+    public static World world(Event e) {
+        if (e instanceof PlayerEvent pe) return pe.getPlayer().getWorld();
+        if (e instanceof EntityEvent ee) return ee.getEntity().getWorld();
+        if (e instanceof BlockEvent be) return be.getBlock().getWorld();
+        if (e instanceof WorldEvent we) return we.getWorld();
+        return null;
+    }
+}
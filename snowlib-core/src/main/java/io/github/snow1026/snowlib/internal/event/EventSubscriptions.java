@@ -0,0 +1,174 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.SnowKey;
+import io.github.snow1026.snowlib.api.event.EventSubscription;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활성 상태인 모든 {@link SnowEventExecutor}의 목록입니다.
+ * <p>
+ * 구독은 등록 시 추가되고 비활성화될 때 제거되며, 플러그인/이벤트 타입/소유 객체별 인덱스를 함께 유지합니다.
+ * 인덱스는 등록·해제 시에만 갱신되므로 이벤트 디스패치 경로에는 비용이 없습니다.
+ * 소유 객체는 동일성(identity)으로 비교됩니다.
+ * </p>
+ */
+public final class EventSubscriptions {
+    private static final Map<SnowKey, SnowEventExecutor<?>> entries = new ConcurrentHashMap<>();
+    private static final Map<Plugin, Set<SnowEventExecutor<?>>> byPlugin = new HashMap<>();
+    private static final Map<Class<?>, Set<SnowEventExecutor<?>>> byType = new HashMap<>();
+    private static final Map<Object, Set<SnowEventExecutor<?>>> byOwner = new IdentityHashMap<>();
+    private static final AtomicLong ids = new AtomicLong();
+    private static final Set<Plugin> disabling = ConcurrentHashMap.newKeySet();
+    private static final Object lock = new Object();
+
+    private EventSubscriptions() {}
+
+    static SnowKey keyFor(SnowEventExecutor<?> executor) {
+        return new SnowKey(executor.getPlugin(), "event/" + executor.getEventType().getSimpleName().toLowerCase() + "/" + ids.incrementAndGet());
+    }
+
+    static void add(SnowEventExecutor<?> executor) {
+        synchronized (lock) {
+            entries.put(executor.getKey(), executor);
+            byPlugin.computeIfAbsent(executor.getPlugin(), k -> new LinkedHashSet<>()).add(executor);
+            byType.computeIfAbsent(executor.getEventType(), k -> new LinkedHashSet<>()).add(executor);
+            if (executor.getOwner() != null) {
+                byOwner.computeIfAbsent(executor.getOwner(), k -> new LinkedHashSet<>()).add(executor);
+            }
+        }
+    }
+
+    static void remove(SnowEventExecutor<?> executor) {
+        synchronized (lock) {
+            if (entries.remove(executor.getKey()) == null) return;
+            removeFrom(byPlugin, executor.getPlugin(), executor);
+            removeFrom(byType, executor.getEventType(), executor);
+            if (executor.getOwner() != null) removeFrom(byOwner, executor.getOwner(), executor);
+        }
+    }
+
+    private static void removeFrom(Map<?, Set<SnowEventExecutor<?>>> index, Object key, SnowEventExecutor<?> executor) {
+        Set<SnowEventExecutor<?>> set = index.get(key);
+        if (set != null && set.remove(executor) && set.isEmpty()) index.remove(key);
+    }
+
+    /**
+     * 키에 해당하는 활성 구독을 반환합니다.
+     */
+    public static EventSubscription get(SnowKey key) {
+        return entries.get(key);
+    }
+
+    /**
+     * 모든 활성 구독의 키와 구독 맵을 반환합니다. (읽기 전용 뷰)
+     */
+    public static Map<SnowKey, EventSubscription> entries() {
+        return Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * 플러그인이 소유한 활성 구독 목록의 복사본을 반환합니다.
+     */
+    public static List<EventSubscription> byPlugin(Plugin plugin) {
+        return snapshot(byPlugin, plugin);
+    }
+
+    /**
+     * 이벤트 타입을 구독하는 활성 구독 목록의 복사본을 반환합니다. (상위 타입 구독은 포함하지 않습니다)
+     */
+    public static List<EventSubscription> byType(Class<? extends Event> type) {
+        return snapshot(byType, type);
+    }
+
+    /**
+     * 소유 객체로 등록된 활성 구독 목록의 복사본을 반환합니다.
+     */
+    public static List<EventSubscription> byOwner(Object owner) {
+        return snapshot(byOwner, owner);
+    }
+
+    /**
+     * 플러그인별 활성 구독 수를 반환합니다.
+     */
+    public static Map<String, Integer> countByPlugin() {
+        Map<String, Integer> counts = new HashMap<>();
+        synchronized (lock) {
+            byPlugin.forEach((plugin, set) -> counts.put(plugin.getName(), set.size()));
+        }
+        return counts;
+    }
+
+    /**
+     * 활성 구독 전체의 추정 메모리 크기(바이트)를 반환합니다.
+     */
+    public static long estimatedSize() {
+        long total = 0;
+        for (SnowEventExecutor<?> executor : entries.values()) {
+            total += executor.estimatedSize();
+        }
+        return total;
+    }
+
+    /**
+     * 소유 객체로 등록된 구독을 모두 해제합니다.
+     *
+     * @return 해제된 구독 수
+     */
+    public static int unregisterOwner(Object owner) {
+        return unregister(byOwner(owner));
+    }
+
+    /**
+     * 플러그인의 디스패처를 폐기하고, 그 뒤에도 남아 있는 구독(일시 중단 중이던 구독 등)을 모두 해제합니다.
+     *
+     * @return 디스패처 폐기 후 추가로 해제된 구독 수
+     */
+    public static int unregisterAll(Plugin plugin) {
+        disabling.add(plugin);
+        try {
+            EventDispatcher.unregisterAll(plugin);
+            return unregister(byPlugin(plugin));
+        } finally {
+            disabling.remove(plugin);
+        }
+    }
+
+    /**
+     * 플러그인의 구독을 모두 해제하는 중인지 확인합니다.
+     * 비활성화 이벤트 안에서는 {@link Plugin#isEnabled()}가 아직 true이므로, 보류 중인 작업을 버릴지 정할 때 사용합니다.
+     */
+    static boolean isDisabling(Plugin plugin) {
+        return disabling.contains(plugin);
+    }
+
+    private static int unregister(Collection<EventSubscription> subscriptions) {
+        int count = 0;
+        for (EventSubscription subscription : subscriptions) {
+            if (subscription.isActive()) {
+                subscription.unregister();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<EventSubscription> snapshot(Map<?, Set<SnowEventExecutor<?>>> index, Object key) {
+        synchronized (lock) {
+            Set<SnowEventExecutor<?>> set = index.get(key);
+            return set != null ? new ArrayList<>(set) : List.of();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.api.event.debug.EventDebug;
+import io.github.snow1026.snowlib.api.event.debug.EventStats;
+import io.github.snow1026.snowlib.api.event.debug.WatchdogReport;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 워치독이 설정된 구독의 실행 시간을 감시하는 백그라운드 샘플러입니다.
+ * <p>
+ * 구독은 핸들러 실행 전후에 시작 시각만 기록하고, 샘플러 스레드가 {@value #SAMPLE_MILLIS}ms마다 이를 읽습니다.
+ * 예산을 넘겨 실행 중인 핸들러가 보이면 그 스레드의 스택을 한 번 포착해 두고,
+ * 구간마다 실행 시간의 p99가 예산을 넘으면 {@link EventDebug}에 보고하며 설정에 따라 구독을 일시 중단합니다.
+ * 워치독을 설정하지 않은 구독은 감시 대상이 아니며 추가 비용이 없습니다. 감시 대상이 없으면 샘플러도 멈춥니다.
+ * </p>
+ */
+final class EventWatchdog {
+    private static final long SAMPLE_MILLIS = 5;
+    // p99를 평가하기 위한 구간의 최소 길이와 최소 실행 횟수
+    private static final long WINDOW_NANOS = Duration.ofSeconds(10).toNanos();
+    private static final long MIN_CALLS = 50;
+    private static final int MAX_STACK_FRAMES = 32;
+
+    private static final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+    private static ScheduledExecutorService sampler;
+    private static ScheduledFuture<?> task;
+
+    private EventWatchdog() {}
+
+    static synchronized void start(Watch watch) {
+        watches.add(watch);
+        if (task != null) return;
+        if (sampler == null) {
+            sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "SnowLib-Event-Watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        task = sampler.scheduleAtFixedRate(EventWatchdog::sample, SAMPLE_MILLIS, SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    static synchronized void stop(Watch watch) {
+        watches.remove(watch);
+        if (watches.isEmpty() && task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+
+    private static void sample() {
+        long now = System.nanoTime();
+        for (Watch watch : watches) {
+            try {
+                watch.sample(now);
+            } catch (Throwable t) {
+                watch.executor.dispatcher().plugin().getLogger().warning("[SnowLib] Event watchdog failed: " + t);
+            }
+        }
+    }
+
+    /**
+     * 구독 하나의 감시 상태입니다.
+     */
+    static final class Watch {
+        private static final StackTraceElement[] NO_STACK = new StackTraceElement[0];
+
+        private final long budgetNanos;
+        private final boolean autoSuspend;
+        private final long suspendNanos;
+        private final EventStats window;
+        private SnowEventExecutor<?> executor;
+
+        // 실행 중인 핸들러의 스레드와 시작 시각 (0이면 실행 중이 아님)
+        private volatile Thread thread;
+        private volatile long startedAt;
+
+        // 아래 필드는 샘플러 스레드에서만 접근합니다.
+        private long capturedFor;
+        private StackTraceElement[] stack = NO_STACK;
+        private long windowStart = System.nanoTime();
+
+        Watch(Duration budget, boolean autoSuspend, Duration suspendFor, EventStats window) {
+            this.budgetNanos = budget.toNanos();
+            this.autoSuspend = autoSuspend;
+            this.suspendNanos = suspendFor.toNanos();
+            this.window = window;
+        }
+
+        void attach(SnowEventExecutor<?> executor) {
+            this.executor = executor;
+            start(this);
+        }
+
+        void detach() {
+            stop(this);
+        }
+
+        /** 핸들러 실행 직전에 호출됩니다. 동시에 여러 스레드에서 실행되면 마지막으로 들어온 실행만 감시됩니다. */
+        void enter(long start) {
+            thread = Thread.currentThread();
+            startedAt = start;
+        }
+
+        /** 핸들러 실행 직후(예외 포함)에 호출됩니다. */
+        void exit(long start, long nanos) {
+            if (startedAt == start) startedAt = 0;
+            window.recordCall(nanos);
+        }
+
+        private void sample(long now) {
+            long started = startedAt;
+            Thread running = thread;
+            if (started != 0 && started != capturedFor && running != null && now - started > budgetNanos) {
+                StackTraceElement[] captured = running.getStackTrace();
+                // 포착하는 사이에 핸들러가 끝났다면 다른 작업의 스택이므로 버립니다.
+                if (startedAt == started) {
+                    capturedFor = started;
+                    stack = captured.length > MAX_STACK_FRAMES ? Arrays.copyOf(captured, MAX_STACK_FRAMES) : captured;
+                }
+            }
+
+            if (now - windowStart < WINDOW_NANOS) return;
+            long calls = window.calls();
+            if (calls < MIN_CALLS) return;
+
+            long p99 = window.percentileNanos(99);
+            windowStart = now;
+            window.reset();
+            if (p99 <= budgetNanos) return;
+
+            boolean suspend = autoSuspend && executor.isActive() && !executor.isSuspended();
+            WatchdogReport report = new WatchdogReport(window.source(), window.key().type(), Duration.ofNanos(p99), Duration.ofNanos(budgetNanos), calls, stack, suspend, Instant.now());
+            stack = NO_STACK;
+            EventDebug.report(report);
+            executor.dispatcher().plugin().getLogger().warning("[SnowLib] Slow event handler " + report);
+            if (suspend) executor.suspend(suspendNanos);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import org.bukkit.event.Event;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 구독 하나의 예외를 집계하고, 짧은 시간에 실패가 몰리면 구독을 일시 중단시키는 서킷 브레이커입니다.
+ * <p>
+ * 예외는 타입과 상위 스택 프레임으로 만든 지문(fingerprint)별로 횟수만 세며, 스택 트레이스는 지문마다 처음 한 번만 출력됩니다.
+ * {@code window} 안에 {@code threshold}번 실패하면 {@code backoff} 동안 중단되고,
+ * 재개 후 한 구간이 지나기 전에 다시 중단되면 중단 시간이 두 배씩 늘어납니다. (최대 {@link #MAX_BACKOFF_NANOS})
+ * </p>
+ */
+public final class FailureTracker {
+    // 서킷 브레이커는 circuitBreaker(...)로 켠 구독에만 적용되며, 기본값은 집계만 합니다.
+    static final int DEFAULT_THRESHOLD = 0;
+    static final Duration DEFAULT_BACKOFF = Duration.ofSeconds(30);
+
+    private static final long MAX_BACKOFF_NANOS = Duration.ofMinutes(10).toNanos();
+    private static final int MAX_FINGERPRINTS = 32;
+    private static final int FINGERPRINT_FRAMES = 3;
+
+    private final int threshold;
+    private final long windowNanos;
+    private final long backoffNanos;
+
+    private final Map<String, Long> fingerprints = new LinkedHashMap<>();
+    private long windowStart;
+    private int windowFailures;
+    private int consecutiveTrips;
+    private long resumeAt;
+    private long dropped;
+
+    /**
+     * 중단하지 않고 집계만 하는 집계기를 만듭니다.
+     */
+    public FailureTracker() {
+        this(0, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * @param threshold 중단에 필요한 실패 횟수 (0 이하이면 중단하지 않고 집계만 합니다)
+     */
+    FailureTracker(int threshold, Duration window, Duration backoff) {
+        this.threshold = threshold;
+        this.windowNanos = window.toNanos();
+        this.backoffNanos = backoff.toNanos();
+    }
+
+    /**
+     * 실패를 기록합니다. 처음 보는 지문이라면 스택 트레이스를 출력합니다.
+     *
+     * @param source 로그에 표시할 핸들러 이름 (null이면 이벤트 이름으로 표시)
+     * @param log    기본 예외 처리 경로라면 true, 사용자 예외 처리기가 있다면 false
+     * @return 구독을 중단해야 한다면 중단할 시간(나노초), 아니라면 0
+     */
+    public synchronized long record(Event event, String source, Throwable t, Logger logger, boolean log) {
+        String handler = source != null ? source + " (" + event.getEventName() + ")" : event.getEventName() + " handler";
+        String fingerprint = fingerprint(t);
+        Long previous = fingerprints.get(fingerprint);
+        if (previous != null) {
+            fingerprints.put(fingerprint, previous + 1);
+        } else if (fingerprints.size() < MAX_FINGERPRINTS) {
+            fingerprints.put(fingerprint, 1L);
+        } else {
+            dropped++;
+        }
+
+        if (log && previous == null) {
+            logger.log(Level.SEVERE, "[SnowLib] Exception in " + handler + " (repeats are counted, see Subscription#getFailures)", t);
+        }
+
+        if (threshold <= 0) return 0;
+
+        long now = System.nanoTime();
+        if (windowFailures == 0 || now - windowStart > windowNanos) {
+            windowStart = now;
+            windowFailures = 0;
+        }
+        if (++windowFailures < threshold) return 0;
+
+        windowFailures = 0;
+        if (consecutiveTrips > 0 && now - resumeAt > windowNanos) consecutiveTrips = 0;
+        long suspend = backoffNanos;
+        for (int i = 0; i < consecutiveTrips && suspend < MAX_BACKOFF_NANOS; i++) suspend <<= 1;
+        suspend = Math.max(backoffNanos, Math.min(MAX_BACKOFF_NANOS, suspend));
+        consecutiveTrips++;
+        resumeAt = now + suspend;
+        logger.warning("[SnowLib] Suspending " + handler + " for " + Duration.ofNanos(suspend).toSeconds() + "s after " + threshold + " failures; failures so far: " + failures());
+        return suspend;
+    }
+
+    public synchronized Map<String, Long> failures() {
+        Map<String, Long> copy = new LinkedHashMap<>(fingerprints);
+        if (dropped > 0) copy.put("(other)", dropped);
+        return copy;
+    }
+
+    // 예외 타입과 상위 프레임 몇 개로 같은 원인의 예외를 묶습니다.
+    private static String fingerprint(Throwable t) {
+        StringBuilder out = new StringBuilder(t.getClass().getName());
+        StackTraceElement[] stack = t.getStackTrace();
+        for (int i = 0; i < Math.min(FINGERPRINT_FRAMES, stack.length); i++) {
+            out.append(i == 0 ? " at " : " <- ").append(stack[i].getClassName()).append('.').append(stack[i].getMethodName()).append(':').append(stack[i].getLineNumber());
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 등록 시점에 필터 목록을 하나의 조건식으로 합성합니다.
+ * <p>
+ * 모든 필터는 비용 등급을 가지며, 등급이 낮은 필터부터 평가됩니다. 사용자 필터는 {@link Cost#CHEAP}로 취급합니다.
+ * {@link io.github.snow1026.snowlib.api.event.Filters}가 제공하는 내장 필터는 대상(이벤트/플레이어/블록)과 비용 정보를 가지고 있어,
+ * 같은 등급 안에서 다음 순서로 재배치됩니다.
+ * </p>
+ * <ol>
+ * <li>이벤트 단위 내장 필터</li>
+ * <li>블록 내장 필터</li>
+ * <li>플레이어 내장 필터</li>
+ * <li>사용자 필터 (등록 순서 유지)</li>
+ * </ol>
+ * 블록과 플레이어는 등급과 관계없이 이벤트마다 처음 필요할 때 한 번만 추출되어 이후 필터가 공유합니다.
+ * 따라서 권한 검사처럼 비싼 내장 필터는 사용자 필터보다 뒤에 평가됩니다.
+ * 내장 필터는 부작용이 없고 null에 안전하므로 옮겨도 결과가 바뀌지 않으며,
+ * 사용자 필터는 서로의 순서에 의존할 수 있으므로 순서를 바꾸지 않습니다.
+ */
+public final class FilterChain {
+    private FilterChain() {}
+
+    /** 내장 필터의 상대적 비용입니다. */
+    public enum Cost { CHEAP, NORMAL, EXPENSIVE }
+
+    /**
+     * 이벤트 객체만으로 판단하는 내장 필터를 만듭니다.
+     */
+    public static <T extends Event> Predicate<T> event(Predicate<? super T> test, Cost cost) {
+        return new EventTest<>(test, cost);
+    }
+
+    /**
+     * 이벤트 주체 플레이어를 대상으로 하는 내장 필터를 만듭니다. 플레이어가 없으면 통과하지 못합니다.
+     */
+    public static <T extends Event> Predicate<T> player(Predicate<Player> test, Cost cost) {
+        return new PlayerTest<>(test, cost);
+    }
+
+    /**
+     * 이벤트 대상 블록을 대상으로 하는 내장 필터를 만듭니다. 블록이 없으면 통과하지 못합니다.
+     */
+    public static <T extends Event> Predicate<T> block(Predicate<Block> test, Cost cost) {
+        return new BlockTest<>(test, cost);
+    }
+
+    /**
+     * 필터 목록을 하나의 조건식으로 합성합니다.
+     *
+     * @return 합성된 조건식, 필터가 없으면 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Event> Predicate<T> compile(List<Predicate<T>> filters) {
+        List<Predicate<T>> chain = new ArrayList<>();
+        boolean subjects = false;
+
+        for (Cost cost : Cost.values()) {
+            for (Predicate<T> filter : filters) {
+                if (filter instanceof EventTest<?> t && t.cost() == cost) chain.add((Predicate<T>) t.test());
+            }
+            for (Predicate<T> filter : filters) {
+                if (filter instanceof BlockTest<?> t && t.cost() == cost) {
+                    chain.add(filter);
+                    subjects = true;
+                }
+            }
+            for (Predicate<T> filter : filters) {
+                if (filter instanceof PlayerTest<?> t && t.cost() == cost) {
+                    chain.add(filter);
+                    subjects = true;
+                }
+            }
+
+            // 표시되지 않은 사용자 필터는 가장 싼 등급의 내장 필터 뒤에 둡니다.
+            if (cost == Cost.CHEAP) {
+                for (Predicate<T> filter : filters) {
+                    if (!(filter instanceof EventTest<?> || filter instanceof BlockTest<?> || filter instanceof PlayerTest<?>)) chain.add(filter);
+                }
+            }
+        }
+
+        if (subjects) return new Compiled<>(chain.toArray(Predicate[]::new));
+        return switch (chain.size()) {
+            case 0 -> null;
+            case 1 -> chain.get(0);
+            case 2 -> {
+                Predicate<T> first = chain.get(0), second = chain.get(1);
+                yield e -> first.test(e) && second.test(e);
+            }
+            default -> {
+                Predicate<T>[] all = chain.toArray(Predicate[]::new);
+                yield e -> {
+                    for (Predicate<T> filter : all) {
+                        if (!filter.test(e)) return false;
+                    }
+                    return true;
+                };
+            }
+        };
+    }
+
+    /**
+     * 플레이어/블록 필터가 섞인 합성 조건식입니다.
+     * 대상은 처음 필요한 필터에서 한 번만 추출해 같은 호출 안의 나머지 필터가 공유하며,
+     * 앞선 필터에서 걸러지면 추출하지 않습니다. 대상이 없으면 그 필터에서 바로 실패하므로 null은 다시 추출할 일이 없습니다.
+     */
+    private record Compiled<T extends Event>(Predicate<T>[] chain) implements Predicate<T> {
+        @Override
+        public boolean test(T e) {
+            Player player = null;
+            Block block = null;
+            for (Predicate<T> filter : chain) {
+                if (filter instanceof PlayerTest<?> t) {
+                    if (player == null && (player = EventSubjects.player(e)) == null) return false;
+                    if (!t.test().test(player)) return false;
+                } else if (filter instanceof BlockTest<?> t) {
+                    if (block == null && (block = EventSubjects.block(e)) == null) return false;
+                    if (!t.test().test(block)) return false;
+                } else if (!filter.test(e)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private record EventTest<T extends Event>(Predicate<? super T> test, Cost cost) implements Predicate<T> {
+        @Override
+        public boolean test(T e) {
+            return test.test(e);
+        }
+    }
+
+    private record PlayerTest<T extends Event>(Predicate<Player> test, Cost cost) implements Predicate<T> {
+        @Override
+        public boolean test(T e) {
+            Player player = EventSubjects.player(e);
+            return player != null && test.test(player);
+        }
+    }
+
+    private record BlockTest<T extends Event>(Predicate<Block> test, Cost cost) implements Predicate<T> {
+        @Override
+        public boolean test(T e) {
+            Block block = EventSubjects.block(e);
+            return block != null && test.test(block);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import org.bukkit.event.Event;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * UUID 키별 쿨다운입니다.
+ * <p>
+ * UUID의 상위/하위 비트를 그대로 키로 쓰는 개방 주소법(선형 탐사) 테이블에
+ * 마지막 실행 시각({@link System#nanoTime()})을 원시 {@code long}으로 저장하므로 박싱이 없습니다.
+ * 테이블이 가득 차면 크기를 늘리기 전에 쿨다운이 지난 항목부터 비우며,
+ * 플레이어가 퇴장하면 {@link #evictAll(UUID)}로 모든 쿨다운에서 제거됩니다.
+ * </p>
+ *
+ * @param <T> 이벤트 타입
+ */
+public final class KeyedCooldown<T extends Event> {
+    private static final Set<KeyedCooldown<?>> active = ConcurrentHashMap.newKeySet();
+
+    private final Function<T, UUID> keyExtractor;
+    private final long cooldownNanos;
+
+    private long[] most;
+    private long[] least;
+    private long[] lastNanos;
+    private boolean[] used;
+    private int size;
+
+    KeyedCooldown(Function<T, UUID> keyExtractor, long cooldownNanos) {
+        this.keyExtractor = keyExtractor;
+        this.cooldownNanos = cooldownNanos;
+        allocate(16);
+    }
+
+    /**
+     * 퇴장한 플레이어 등 더 이상 쓰이지 않는 키를 모든 쿨다운에서 제거합니다.
+     */
+    public static void evictAll(UUID key) {
+        for (KeyedCooldown<?> cooldown : active) {
+            cooldown.remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        }
+    }
+
+    void open() {
+        active.add(this);
+    }
+
+    void close() {
+        active.remove(this);
+        synchronized (this) {
+            allocate(16);
+        }
+    }
+
+    // 키 테이블 배열의 크기 (UUID 두 칸, 시각, 사용 여부)
+    synchronized long estimatedSize() {
+        return (long) used.length * (Long.BYTES * 3 + 1);
+    }
+
+    /**
+     * 이벤트의 키가 쿨다운 중이 아니라면 현재 시각을 기록하고 true를 반환합니다.
+     * 키를 추출할 수 없는 이벤트는 쿨다운 대상이 아니므로 항상 통과합니다.
+     */
+    boolean tryAcquire(T e) {
+        UUID key = keyExtractor.apply(e);
+        if (key == null) return true;
+        return tryAcquire(key.getMostSignificantBits(), key.getLeastSignificantBits(), System.nanoTime());
+    }
+
+    private synchronized boolean tryAcquire(long msb, long lsb, long now) {
+        int mask = used.length - 1;
+        int i = mix(msb, lsb) & mask;
+        for (; used[i]; i = (i + 1) & mask) {
+            if (most[i] == msb && least[i] == lsb) {
+                if (now - lastNanos[i] < cooldownNanos) return false;
+                lastNanos[i] = now;
+                return true;
+            }
+        }
+
+        most[i] = msb;
+        least[i] = lsb;
+        lastNanos[i] = now;
+        used[i] = true;
+        if (++size * 2 > used.length) rehash(now);
+        return true;
+    }
+
+    private synchronized void remove(long msb, long lsb) {
+        int mask = used.length - 1;
+        int i = mix(msb, lsb) & mask;
+        while (used[i] && !(most[i] == msb && least[i] == lsb)) i = (i + 1) & mask;
+        if (!used[i]) return;
+
+        // 선형 탐사 체인을 유지하기 위해 뒤쪽 항목을 당겨옵니다 (backward shift deletion).
+        used[i] = false;
+        size--;
+        for (int j = (i + 1) & mask; used[j]; j = (j + 1) & mask) {
+            int home = mix(most[j], least[j]) & mask;
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                most[i] = most[j];
+                least[i] = least[j];
+                lastNanos[i] = lastNanos[j];
+                used[i] = true;
+                used[j] = false;
+                i = j;
+            }
+        }
+    }
+
+    // 쿨다운이 지난 항목을 버리고, 그래도 절반 이상 차 있다면 두 배로 늘립니다.
+    private void rehash(long now) {
+        long[] oldMost = most, oldLeast = least, oldLast = lastNanos;
+        boolean[] oldUsed = used;
+
+        int live = 0;
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (oldUsed[i] && now - oldLast[i] < cooldownNanos) live++;
+        }
+        int capacity = oldUsed.length;
+        while (live * 2 >= capacity) capacity <<= 1;
+
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (!oldUsed[i] || now - oldLast[i] >= cooldownNanos) continue;
+            int j = mix(oldMost[i], oldLeast[i]) & mask;
+            while (used[j]) j = (j + 1) & mask;
+            most[j] = oldMost[i];
+            least[j] = oldLeast[i];
+            lastNanos[j] = oldLast[i];
+            used[j] = true;
+            size++;
+        }
+    }
+
+    private void allocate(int capacity) {
+        most = new long[capacity];
+        least = new long[capacity];
+        lastNanos = new long[capacity];
+        used = new boolean[capacity];
+        size = 0;
+    }
+
+    private static int mix(long msb, long lsb) {
+        long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
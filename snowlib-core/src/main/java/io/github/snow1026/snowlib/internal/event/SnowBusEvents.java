@@ -0,0 +1,112 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.api.event.BusEvents;
+import io.github.snow1026.snowlib.api.event.Subscription;
+import io.github.snow1026.snowlib.api.event.SubscriptionGroup;
+import io.github.snow1026.snowlib.internal.task.SnowTicker;
+import org.bukkit.event.EventPriority;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public class SnowBusEvents<E> implements BusEvents<E> {
+    private final SnowEventBus bus;
+    private final Class<E> type;
+    private final Consumer<E> handler;
+
+    private EventPriority priority = EventPriority.NORMAL;
+    private int executionLimit = -1;
+    private Duration expiry;
+    private boolean async;
+    private BiConsumer<E, Throwable> exceptionHandler;
+    private SubscriptionGroup group;
+
+    private final List<Predicate<E>> filters = new ArrayList<>();
+
+    SnowBusEvents(SnowEventBus bus, Class<E> type, Consumer<E> handler) {
+        this.bus = bus;
+        this.type = type;
+        this.handler = handler;
+    }
+
+    @Override
+    public BusEvents<E> priority(EventPriority priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    @Override
+    public BusEvents<E> filter(Predicate<E> filter) {
+        this.filters.add(filter);
+        return this;
+    }
+
+    @Override
+    public BusEvents<E> limit(int count) {
+        this.executionLimit = count;
+        return this;
+    }
+
+    @Override
+    public BusEvents<E> once() {
+        return limit(1);
+    }
+
+    @Override
+    public BusEvents<E> expireAfter(Duration duration) {
+        this.expiry = duration;
+        return this;
+    }
+
+    @Override
+    public BusEvents<E> async() {
+        this.async = true;
+        return this;
+    }
+
+    @Override
+    public BusEvents<E> exceptionHandler(BiConsumer<E, Throwable> exceptionHandler) {
+        this.exceptionHandler = exceptionHandler;
+        return this;
+    }
+
+    @Override
+    public BusEvents<E> group(SubscriptionGroup group) {
+        this.group = group;
+        return this;
+    }
+
+    @Override
+    public Subscription register() {
+        Predicate<E> filter = switch (filters.size()) {
+            case 0 -> null;
+            case 1 -> filters.get(0);
+            default -> {
+                List<Predicate<E>> all = List.copyOf(filters);
+                yield e -> {
+                    for (Predicate<E> f : all) {
+                        if (!f.test(e)) return false;
+                    }
+                    return true;
+                };
+            }
+        };
+
+        BusSubscription<E> subscription = new BusSubscription<>(bus, type, handler, filter, priority, executionLimit, async, exceptionHandler);
+        bus.add(subscription);
+
+        if (expiry != null) {
+            subscription.expireAfter(SnowTicker.toTicks(expiry));
+        }
+
+        if (group != null) {
+            group.add(subscription);
+        }
+
+        return subscription;
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.api.event.BusEvents;
+import io.github.snow1026.snowlib.api.event.EventBus;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * {@link EventBus} 구현입니다.
+ * <p>
+ * 구독 목록은 불변 {@link State}로 관리됩니다. 구독이 바뀌면 잠금 안에서 새 상태로 교체되고,
+ * 발행 시에는 현재 상태의 클래스별 전달 테이블(상위 타입의 구독을 우선순위 순으로 펼친 배열)을 읽기만 하므로 잠금이 없습니다.
+ * 전달 테이블은 상태마다 처음 발행되는 클래스에 대해 한 번 계산됩니다.
+ * 구독이 있는 버스는 플러그인별로 약하게 기억되어, 플러그인이 비활성화되면 {@link #clearAll(Plugin)}으로 비워집니다.
+ * 비동기 전달은 버스마다 따로 한도를 가진 실행기를 쓰므로, 블로킹 핸들러가 다른 버스나 이벤트 오프로드 단계를 막지 않습니다.
+ * </p>
+ */
+public final class SnowEventBus implements EventBus {
+    private static final BusSubscription<?>[] EMPTY = new BusSubscription<?>[0];
+    private static final ExecutorService threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("SnowLib-Bus-", 0).factory());
+    // 버스 하나에서 동시에 실행할 수 있는 최대 비동기 전달 수
+    private static final int MAX_WORKERS = 64;
+    private static final Map<Plugin, Set<SnowEventBus>> buses = new ConcurrentHashMap<>();
+
+    private final Plugin plugin;
+    private final Object lock = new Object();
+    private final Executor workers = new WorkerLane(threads, MAX_WORKERS);
+    private volatile State state = new State(Map.of());
+
+    public SnowEventBus(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public <E> BusEvents<E> listen(Class<E> type, Consumer<E> handler) {
+        return new SnowBusEvents<>(this, type, handler);
+    }
+
+    @Override
+    public int post(Object event) {
+        BusSubscription<?>[] targets = state.targets(event.getClass());
+        int delivered = 0;
+        for (BusSubscription<?> subscription : targets) {
+            if (subscription.deliver(event)) delivered++;
+        }
+        return delivered;
+    }
+
+    /**
+     * 모든 구독을 해제합니다. 만료 예약은 취소되고, 아직 시작되지 않은 비동기 전달은 버려집니다.
+     */
+    @Override
+    public void clear() {
+        List<BusSubscription<?>> removed = new ArrayList<>();
+        synchronized (lock) {
+            state.direct.values().forEach(subscriptions -> removed.addAll(Arrays.asList(subscriptions)));
+            state = new State(Map.of());
+        }
+        removed.forEach(BusSubscription::close);
+    }
+
+    /**
+     * 플러그인이 만든 모든 버스를 비웁니다. 플러그인이 비활성화될 때 호출됩니다.
+     *
+     * @return 비운 버스 수
+     */
+    public static int clearAll(Plugin plugin) {
+        Set<SnowEventBus> owned = buses.remove(plugin);
+        if (owned == null) return 0;
+        List<SnowEventBus> cleared;
+        synchronized (owned) {
+            cleared = new ArrayList<>(owned);
+        }
+        cleared.forEach(SnowEventBus::clear);
+        return cleared.size();
+    }
+
+    Plugin plugin() {
+        return plugin;
+    }
+
+    Executor workers() {
+        return workers;
+    }
+
+    void add(BusSubscription<?> subscription) {
+        // 버스를 만들어 두기만 하고 구독하지 않는 경우가 있으므로, 첫 구독 때 기억합니다.
+        buses.computeIfAbsent(plugin, p -> Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()))).add(this);
+        synchronized (lock) {
+            Map<Class<?>, BusSubscription<?>[]> direct = new HashMap<>(state.direct);
+            BusSubscription<?>[] current = direct.getOrDefault(subscription.type(), EMPTY);
+            BusSubscription<?>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = subscription;
+            direct.put(subscription.type(), next);
+            state = new State(direct);
+        }
+    }
+
+    void remove(BusSubscription<?> subscription) {
+        synchronized (lock) {
+            BusSubscription<?>[] current = state.direct.get(subscription.type());
+            if (current == null) return;
+            BusSubscription<?>[] next = Arrays.stream(current).filter(s -> s != subscription).toArray(BusSubscription<?>[]::new);
+            if (next.length == current.length) return;
+
+            Map<Class<?>, BusSubscription<?>[]> direct = new HashMap<>(state.direct);
+            if (next.length == 0) direct.remove(subscription.type());
+            else direct.put(subscription.type(), next);
+            state = new State(direct);
+        }
+    }
+
+    /**
+     * 구독 타입별 배열과, 발행된 클래스별로 계산해 둔 전달 테이블입니다.
+     */
+    private static final class State {
+        private final Map<Class<?>, BusSubscription<?>[]> direct;
+        private final Map<Class<?>, BusSubscription<?>[]> tables = new ConcurrentHashMap<>();
+
+        private State(Map<Class<?>, BusSubscription<?>[]> direct) {
+            this.direct = direct;
+        }
+
+        BusSubscription<?>[] targets(Class<?> type) {
+            BusSubscription<?>[] table = tables.get(type);
+            if (table == null) {
+                table = build(type);
+                BusSubscription<?>[] raced = tables.putIfAbsent(type, table);
+                if (raced != null) table = raced;
+            }
+            return table;
+        }
+
+        // 클래스 자신, 상위 클래스, 모든 인터페이스의 구독을 모아 우선순위 순으로 정렬합니다. (같은 우선순위는 등록 순서)
+        private BusSubscription<?>[] build(Class<?> type) {
+            if (direct.isEmpty()) return EMPTY;
+            List<BusSubscription<?>> targets = new ArrayList<>();
+            for (Class<?> supertype : hierarchy(type)) {
+                BusSubscription<?>[] subscriptions = direct.get(supertype);
+                if (subscriptions != null) targets.addAll(Arrays.asList(subscriptions));
+            }
+            if (targets.isEmpty()) return EMPTY;
+            targets.sort(Comparator.comparingInt((BusSubscription<?> s) -> s.priority().ordinal()).thenComparingLong(BusSubscription::order));
+            return targets.toArray(BusSubscription<?>[]::new);
+        }
+
+        private static Set<Class<?>> hierarchy(Class<?> type) {
+            Set<Class<?>> types = new LinkedHashSet<>();
+            Deque<Class<?>> queue = new ArrayDeque<>();
+            queue.add(type);
+            while (!queue.isEmpty()) {
+                Class<?> current = queue.poll();
+                if (!types.add(current)) continue;
+                if (current.getSuperclass() != null) queue.add(current.getSuperclass());
+                queue.addAll(Arrays.asList(current.getInterfaces()));
+            }
+            return types;
+        }
+    }
+}
@@ -1,83 +1,135 @@
 package io.github.snow1026.snowlib.internal.event;
 
-import io.github.snow1026.snowlib.api.event.Subscription;
-import io.github.snow1026.snowlib.api.event.debug.EventDebug;
+import io.github.snow1026.snowlib.SnowKey;
+import io.github.snow1026.snowlib.api.event.EventSubscription;
+import io.github.snow1026.snowlib.api.event.debug.EventProfiler;
+import io.github.snow1026.snowlib.api.event.debug.EventStats;
+import io.github.snow1026.snowlib.internal.task.SnowTicker;
+import io.github.snow1026.snowlib.internal.task.TimerWheel;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
-import org.bukkit.plugin.EventExecutor;
-import org.jetbrains.annotations.NotNull;
+import org.bukkit.event.EventPriority;
+import org.bukkit.plugin.Plugin;
 
 import java.time.Duration;
-import java.time.Instant;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.logging.Level;
 
-public class SnowEventExecutor<T extends Event> implements EventExecutor, Subscription {
-    private final Listener listener;
-    private final Consumer<T> handler;
-    private final List<Predicate<T>> filters;
-
-    private final boolean debug;
+/**
+ * 하나의 구독을 실행하고 수명 주기를 관리합니다.
+ * <p>
+ * {@link #create}가 설정된 기능을 보고 빠른 경로를 쓸지 정합니다. 옵션이 없는 구독과 필터만 있는 구독은
+ * 활성 검사, 필터, 핸들러 호출만 하고, 쿨다운/실행 제한/강제 취소/디버그/워치독이 필요한 구독만
+ * 모든 검사를 수행합니다. 사용하지 않는 기능의 분기나 시간 측정은 실행되지 않습니다.
+ * 경로는 하위 클래스 대신 final 필드로 나누므로, 디스패처의 호출 지점은 한 가지 타입만 보게 되어 인라인될 수 있습니다.
+ * </p>
+ */
+public final class SnowEventExecutor<T extends Event> implements EventSubscription {
+    // 실행기 객체와 원자 필드, 경로, 예외 집계기의 대략적인 크기
+    private static final long BASE_SIZE = 256;
 
+    private final EventDispatcher<T> dispatcher;
+    private final EventRoute route;
+    private final Consumer<T> handler;
+    private final BiConsumer<T, Throwable> exceptionHandler;
+    private final FailureTracker failures;
+    private final EventStats stats;
+    private final Predicate<T> filter;
+    private final boolean simple;
     private final boolean forceCancel;
     private final int executionLimit;
-    private final Instant expiryTime;
-    private final long cooldownMs;
-    private final BiConsumer<T, Throwable> exceptionHandler;
+    private final long cooldownNanos;
+    private final AtomicLong lastExecutionNanos;
+    private final KeyedCooldown<T> keyedCooldown;
+    private final EventWatchdog.Watch watch;
 
     private final AtomicInteger callCount = new AtomicInteger(0);
-    private final AtomicLong lastExecutionTime = new AtomicLong(0);
-    private volatile boolean active = true;
+    private final AtomicBoolean active = new AtomicBoolean(true);
+    private volatile TimerWheel.Timeout expiryTimeout;
+    private volatile TimerWheel.Timeout resumeTimeout;
+    private volatile boolean suspended;
+    private SnowKey key;
+    private Object owner;
+    private String source;
 
-    public SnowEventExecutor(Listener listener, Consumer<T> handler, List<Predicate<T>> filters, boolean forceCancel, int executionLimit, Duration expiry, Duration cooldown, BiConsumer<T, Throwable> exceptionHandler, boolean debug) {
-        this.listener = listener;
+    private SnowEventExecutor(EventDispatcher<T> dispatcher, EventRoute route, Consumer<T> handler, Predicate<T> filter, boolean forceCancel, int executionLimit, Duration cooldown, KeyedCooldown<T> keyedCooldown, BiConsumer<T, Throwable> exceptionHandler, FailureTracker failures, EventStats stats, EventWatchdog.Watch watch) {
+        this.dispatcher = dispatcher;
+        this.route = route;
         this.handler = handler;
-        this.filters = filters;
-        this.debug = debug;
+        this.exceptionHandler = exceptionHandler;
+        this.failures = failures;
+        this.stats = stats;
+        this.filter = filter;
+        this.simple = !forceCancel && executionLimit <= 0 && cooldown == null && keyedCooldown == null && stats == null && watch == null;
         this.forceCancel = forceCancel;
         this.executionLimit = executionLimit;
-        this.expiryTime = expiry != null ? Instant.now().plus(expiry) : null;
-        this.cooldownMs = cooldown != null ? cooldown.toMillis() : 0;
-        this.exceptionHandler = exceptionHandler;
+        this.cooldownNanos = cooldown != null ? cooldown.toNanos() : 0;
+        this.keyedCooldown = keyedCooldown;
+        this.watch = watch;
+        // nanoTime의 기준점은 임의이므로, 첫 실행이 곧바로 통과하도록 한 주기 앞으로 초기화합니다.
+        this.lastExecutionNanos = cooldownNanos > 0 ? new AtomicLong(System.nanoTime() - cooldownNanos) : null;
     }
 
-    @SuppressWarnings("unchecked")
-    @Override
-    public void execute(@NotNull Listener listener, @NotNull Event event) {
-        if (!active) return;
+    /**
+     * 설정된 기능만 검사하는 실행기를 만듭니다.
+     */
+    static <T extends Event> SnowEventExecutor<T> create(EventDispatcher<T> dispatcher, EventRoute route, Consumer<T> handler, Predicate<T> filter, boolean forceCancel, int executionLimit, Duration cooldown, KeyedCooldown<T> keyedCooldown, BiConsumer<T, Throwable> exceptionHandler, FailureTracker failures, EventStats stats, EventWatchdog.Watch watch) {
+        return new SnowEventExecutor<>(dispatcher, route, handler, filter, forceCancel, executionLimit, cooldown, keyedCooldown, exceptionHandler, failures, stats, watch);
+    }
 
-        // Expiry Check
-        if (expiryTime != null && Instant.now().isAfter(expiryTime)) {
-            unregister();
-            return;
+    void dispatch(T e) {
+        if (!active.get()) return;
+        if (simple) {
+            dispatchSimple(e);
+        } else {
+            dispatchConfigured(e);
         }
+    }
 
-        long start = debug ? System.nanoTime() : 0;
+    // 옵션이 없거나 필터만 있는 구독의 경로입니다.
+    private void dispatchSimple(T e) {
+        try {
+            if (filter != null && !filter.test(e)) return;
+            handler.accept(e);
+            callCount.incrementAndGet();
+        } catch (Throwable t) {
+            fail(e, t);
+        }
+    }
 
-        T e = (T) event;
+    // 쿨다운, 실행 제한, 강제 취소, 디버그, 워치독 중 하나 이상을 사용하는 구독의 경로입니다.
+    private void dispatchConfigured(T e) {
+        long start = stats != null ? System.nanoTime() : 0;
 
         try {
             // Filter Check
-            for (Predicate<T> filter : filters) {
-                if (!filter.test(e)) return;
+            if (filter != null && !filter.test(e)) {
+                if (stats != null) stats.recordFiltered();
+                return;
             }
 
             // Cooldown Check (Global for this listener)
-            long now = System.currentTimeMillis();
-            if (cooldownMs > 0) {
-                long last = lastExecutionTime.get();
-                if (now - last < cooldownMs) return;
-                lastExecutionTime.set(now);
+            if (cooldownNanos > 0) {
+                long now = System.nanoTime();
+                long last = lastExecutionNanos.get();
+                if (now - last < cooldownNanos || !lastExecutionNanos.compareAndSet(last, now)) return;
             }
 
+            // Cooldown Check (Per key)
+            if (keyedCooldown != null && !keyedCooldown.tryAcquire(e)) return;
+
             // Execute Handler
-            handler.accept(e);
+            if (watch != null) {
+                acceptWatched(e);
+            } else {
+                handler.accept(e);
+            }
             int currentCount = callCount.incrementAndGet();
 
             // Force Cancel
@@ -90,34 +142,159 @@ public class SnowEventExecutor<T extends Event> implements EventExecutor, Subscr
                 unregister();
             }
 
-            if (debug) {
-                long duration = System.nanoTime() - start;
-                EventDebug.log(event, duration);
+            if (stats != null) {
+                stats.recordCall(System.nanoTime() - start);
             }
 
         } catch (Throwable t) {
-            if (exceptionHandler != null) {
+            fail(e, t);
+        }
+    }
+
+    // 샘플러가 볼 수 있도록 핸들러 실행 구간만 워치독에 알립니다.
+    private void acceptWatched(T e) {
+        long start = System.nanoTime();
+        watch.enter(start);
+        try {
+            handler.accept(e);
+        } finally {
+            watch.exit(start, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 구독 정보를 기록하고 활성 구독 목록에 추가합니다. 디스패처에 추가하기 전에 호출됩니다.
+     */
+    void track(Object owner, String source) {
+        this.owner = owner;
+        this.source = source;
+        this.key = EventSubscriptions.keyFor(this);
+        EventSubscriptions.add(this);
+    }
+
+    /**
+     * 핸들러 예외를 집계하고, 사용자 예외 처리기가 있다면 전달합니다.
+     * 짧은 시간에 실패가 몰리면 구독을 디스패처에서 잠시 빼 두었다가 타이머 휠로 되돌립니다.
+     */
+    private void fail(T e, Throwable t) {
+        if (stats != null) stats.recordError();
+        long suspendNanos = failures.record(e, source, t, dispatcher.plugin().getLogger(), exceptionHandler == null);
+        if (suspendNanos > 0) suspend(suspendNanos);
+        if (exceptionHandler != null) {
+            // 같은 디스패처의 다음 구독이 실행되도록, 예외 처리기에서 난 예외는 여기서 멈춥니다.
+            try {
                 exceptionHandler.accept(e, t);
-            } else {
-                EventDebug.handleException(t, event);
+            } catch (Throwable handlerFailure) {
+                dispatcher.plugin().getLogger().log(Level.SEVERE, "[SnowLib] Exception in exception handler for " + e.getEventName(), handlerFailure);
             }
         }
     }
 
+    synchronized void suspend(long nanos) {
+        if (!active.get() || suspended) return;
+        suspended = true;
+        dispatcher.remove(this);
+        resumeTimeout = SnowTicker.schedule(SnowTicker.toTicks(Duration.ofNanos(nanos)), this::resume);
+    }
+
+    private synchronized void resume() {
+        suspended = false;
+        if (active.get()) dispatcher.add(this);
+    }
+
     @Override
     public void unregister() {
-        if (!active) return;
-        active = false;
-        HandlerList.unregisterAll(listener);
+        if (deactivate()) {
+            dispatcher.remove(this);
+        }
+    }
+
+    /**
+     * 지정한 틱 뒤에 타이머 휠이 구독을 해제하도록 예약합니다.
+     * 만료 여부를 이벤트마다 검사하지 않으므로, 이벤트가 다시 발생하지 않아도 만료된 구독은 정리됩니다.
+     */
+    void expireAfter(long ticks) {
+        expiryTimeout = SnowTicker.schedule(ticks, this::unregister);
+    }
+
+    // 배열 조작 없이 상태만 내립니다. 실제로 비활성화시킨 호출만 true를 받습니다.
+    boolean deactivate() {
+        // resume()과 같은 모니터에서 상태를 내려야, 동시에 재개되는 구독이 해제된 뒤 디스패처에 다시 추가되지 않습니다.
+        synchronized (this) {
+            if (!active.compareAndSet(true, false)) return false;
+        }
+        TimerWheel.Timeout timeout = expiryTimeout;
+        if (timeout != null) timeout.cancel();
+        TimerWheel.Timeout resume = resumeTimeout;
+        if (resume != null) resume.cancel();
+        if (keyedCooldown != null) keyedCooldown.close();
+        if (handler instanceof EventStage<?> stage) stage.close();
+        if (stats != null) EventProfiler.unregister(stats);
+        if (watch != null) watch.detach();
+        if (key != null) EventSubscriptions.remove(this);
+        return true;
+    }
+
+    EventDispatcher<T> dispatcher() {
+        return dispatcher;
+    }
+
+    EventRoute route() {
+        return route;
+    }
+
+    @Override
+    public SnowKey getKey() {
+        return key;
+    }
+
+    @Override
+    public Plugin getPlugin() {
+        return dispatcher.plugin();
+    }
+
+    @Override
+    public Class<? extends Event> getEventType() {
+        return dispatcher.type();
+    }
+
+    @Override
+    public EventPriority getPriority() {
+        return dispatcher.priority();
+    }
+
+    @Override
+    public Object getOwner() {
+        return owner;
+    }
+
+    @Override
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public long estimatedSize() {
+        return BASE_SIZE + (keyedCooldown != null ? keyedCooldown.estimatedSize() : 0);
     }
 
     @Override
     public boolean isActive() {
-        return active;
+        return active.get();
     }
 
     @Override
     public int getCallCount() {
         return callCount.get();
     }
+
+    @Override
+    public boolean isSuspended() {
+        return suspended;
+    }
+
+    @Override
+    public Map<String, Long> getFailures() {
+        return failures.failures();
+    }
 }
@@ -2,24 +2,38 @@ package io.github.snow1026.snowlib.internal.event;
 
 import io.github.snow1026.snowlib.SnowLibrary;
 import io.github.snow1026.snowlib.api.event.EventKey;
-import io.github.snow1026.snowlib.api.event.Events;
+import io.github.snow1026.snowlib.api.event.EventSubscription;
 import io.github.snow1026.snowlib.api.event.Subscription;
+import io.github.snow1026.snowlib.api.event.Events;
+import io.github.snow1026.snowlib.api.event.OverflowStrategy;
+import io.github.snow1026.snowlib.api.event.SubscriptionGroup;
 import io.github.snow1026.snowlib.api.event.debug.EventDebug;
-import org.bukkit.Bukkit;
+import io.github.snow1026.snowlib.api.event.debug.EventProfiler;
+import io.github.snow1026.snowlib.internal.task.SnowTicker;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.util.BoundingBox;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Flow;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 public class SnowEvents<T extends Event> implements Events<T> {
     private final Class<T> type;
     private final Consumer<T> handler;
+    private final EventOffload<T, ?> offload;
+    private final EventBatcher<T, ?> batcher;
 
     private Plugin plugin = SnowLibrary.snowlibrary();
     private EventPriority priority = EventPriority.NORMAL;
@@ -28,15 +42,46 @@ public class SnowEvents<T extends Event> implements Events<T> {
     private int executionLimit = -1;
     private Duration expiry;
     private Duration cooldown;
+    private Duration keyedCooldown;
+    private Function<T, UUID> cooldownKey;
     private BiConsumer<T, Throwable> exceptionHandler;
+    private int breakerThreshold = FailureTracker.DEFAULT_THRESHOLD;
+    private Duration breakerWindow = Duration.ZERO;
+    private Duration breakerBackoff = FailureTracker.DEFAULT_BACKOFF;
+    private Duration watchdogBudget;
+    private boolean watchdogSuspend;
+    private long debounceTicks;
+    private Function<T, ?> coalesceKey;
 
     private final List<Predicate<T>> filters = new ArrayList<>();
 
+    private UUID subject;
+    private UUID world;
+    private EventRegion region;
+
     private String debugSource;
+    private SubscriptionGroup group;
+    private Object owner;
 
     public SnowEvents(Class<T> type, Consumer<T> handler) {
+        this(type, handler, null, null);
+    }
+
+    private SnowEvents(Class<T> type, Consumer<T> handler, EventOffload<T, ?> offload, EventBatcher<T, ?> batcher) {
         this.type = type;
         this.handler = handler;
+        this.offload = offload;
+        this.batcher = batcher;
+    }
+
+    public static <T extends Event, S> SnowEvents<T> offload(Class<T> type, Function<T, S> snapshot, Consumer<S> worker) {
+        EventOffload<T, S> offload = new EventOffload<>(snapshot, worker);
+        return new SnowEvents<>(type, offload, offload, null);
+    }
+
+    public static <T extends Event, S> SnowEvents<T> batch(Class<T> type, Function<T, S> snapshot, Consumer<List<S>> handler) {
+        EventBatcher<T, S> batcher = new EventBatcher<>(snapshot, handler);
+        return new SnowEvents<>(type, batcher, null, batcher);
     }
 
     @Override
@@ -86,18 +131,142 @@ public class SnowEvents<T extends Event> implements Events<T> {
         return this;
     }
 
+    @Override
+    public Events<T> cooldownPerPlayer(Duration duration) {
+        return cooldown(duration, e -> {
+            Player player = EventSubjects.player(e);
+            return player != null ? player.getUniqueId() : null;
+        });
+    }
+
+    @Override
+    public Events<T> cooldown(Duration duration, Function<T, UUID> keyExtractor) {
+        this.keyedCooldown = duration;
+        this.cooldownKey = keyExtractor;
+        return this;
+    }
+
     @Override
     public Events<T> exceptionHandler(BiConsumer<T, Throwable> exceptionHandler) {
         this.exceptionHandler = exceptionHandler;
         return this;
     }
 
+    @Override
+    public Events<T> circuitBreaker(int failures, Duration window, Duration backoff) {
+        this.breakerThreshold = failures;
+        this.breakerWindow = window;
+        this.breakerBackoff = backoff;
+        return this;
+    }
+
+    @Override
+    public Events<T> watchdog(Duration budget, boolean autoSuspend) {
+        if (budget.isNegative() || budget.isZero()) throw new IllegalArgumentException("Watchdog budget must be positive.");
+        this.watchdogBudget = budget;
+        this.watchdogSuspend = autoSuspend;
+        return this;
+    }
+
     @Override
     public Events<T> filter(Predicate<T> filter) {
         this.filters.add(filter);
         return this;
     }
 
+    @Override
+    public Events<T> player(UUID playerId) {
+        this.subject = playerId;
+        return this;
+    }
+
+    @Override
+    public Events<T> player(Player player) {
+        return player(player.getUniqueId());
+    }
+
+    @Override
+    public Events<T> entity(UUID entityId) {
+        this.subject = entityId;
+        return this;
+    }
+
+    @Override
+    public Events<T> entity(Entity entity) {
+        return entity(entity.getUniqueId());
+    }
+
+    @Override
+    public Events<T> world(World world) {
+        this.world = world.getUID();
+        return this;
+    }
+
+    @Override
+    public Events<T> region(World world, BoundingBox box) {
+        this.region = EventRegion.of(world, box);
+        return this;
+    }
+
+    @Override
+    public Events<T> chunks(World world, long... chunkKeys) {
+        this.region = EventRegion.ofChunks(world, chunkKeys);
+        return this;
+    }
+
+    @Override
+    public Events<T> group(SubscriptionGroup group) {
+        this.group = group;
+        return this;
+    }
+
+    @Override
+    public Events<T> owner(Object owner) {
+        this.owner = owner;
+        return this;
+    }
+
+    @Override
+    public Events<T> debounce(long ticks) {
+        if (ticks < 1) throw new IllegalArgumentException("Debounce window must be at least 1 tick: " + ticks);
+        this.debounceTicks = ticks;
+        return this;
+    }
+
+    @Override
+    public Events<T> coalesceBy(Function<T, ?> keyExtractor) {
+        this.coalesceKey = keyExtractor;
+        return this;
+    }
+
+    @Override
+    public Events<T> queue(int capacity, OverflowStrategy overflow) {
+        if (offload == null) {
+            throw new IllegalStateException("queue() only applies to subscriptions created with Events.offload(...)");
+        }
+        offload.configure(capacity, overflow);
+        return this;
+    }
+
+    @Override
+    public Events<T> batchLimits(int maxSize, long maxTicks) {
+        requireBatch("batchLimits").configure(maxSize, maxTicks);
+        return this;
+    }
+
+    @Override
+    public Events<T> batchAsync() {
+        requireBatch("batchAsync").async(true);
+        return this;
+    }
+
+    private EventBatcher<T, ?> requireBatch(String option) {
+        if (batcher == null) {
+            throw new IllegalStateException(option + "() only applies to subscriptions created with Events.batch(...)");
+        }
+        return batcher;
+    }
+
     @Override
     public Events<T> debug() {
         StackTraceElement[] stack = Thread.currentThread().getStackTrace();
@@ -114,21 +283,89 @@ public class SnowEvents<T extends Event> implements Events<T> {
         return this;
     }
 
+    @Override
+    public <S> Flow.Publisher<S> publish(Function<T, S> snapshot, int capacity, OverflowStrategy overflow) {
+        return new EventPublisher<>(this, snapshot, capacity, overflow);
+    }
+
     @Override
     public Subscription register() {
+        return subscribe();
+    }
+
+    @Override
+    public EventSubscription subscribe() {
+        return register(handler);
+    }
+
+    Plugin plugin() {
+        return plugin;
+    }
+
+    // 발행자처럼 구독마다 다른 핸들러가 필요한 경우, 같은 설정으로 여러 번 등록할 수 있습니다.
+    SnowEventExecutor<T> register(Consumer<T> handler) {
         if (plugin == null) {
             throw new IllegalStateException("Plugin is not set! Use .plugin(yourPluginInstance) before registering.");
         }
 
+        // 주체를 추출할 수 없는 이벤트를 UUID 인덱스에 넣으면 한 번도 호출되지 않으므로 등록 시점에 알립니다.
+        if (subject != null && !EventSubjects.hasEntity(type)) {
+            throw new IllegalStateException("player()/entity() requires a PlayerEvent or EntityEvent, but " + type.getName() + " has no subject. Use filter() instead.");
+        }
+
         if (debugSource != null) {
             EventDebug.record(new EventKey(type), debugSource);
         }
 
-        SimpleEventListener listener = new SimpleEventListener();
-        SnowEventExecutor<T> executor = new SnowEventExecutor<>(listener, handler, List.copyOf(filters), forceCancel, executionLimit, expiry, cooldown, exceptionHandler, debugSource != null);
+        // 가장 선택적인 한정 조건 하나만 인덱스로 쓰고, 나머지는 일반 필터로 검사합니다.
+        EventRoute route = EventRoute.select(subject, world, region);
+        List<Predicate<T>> filters = new ArrayList<>(this.filters);
+        if (region != null && route.region() == null) {
+            EventRegion r = region;
+            filters.add(0, FilterChain.event(e -> e instanceof PlayerMoveEvent move ? r.contains(move.getTo()) || r.contains(move.getFrom()) : r.contains(EventSubjects.location(e)), FilterChain.Cost.NORMAL));
+        }
+        if (world != null && route.world() == null) {
+            UUID worldId = world;
+            filters.add(0, FilterChain.event(e -> {
+                World w = EventSubjects.world(e);
+                return w != null && w.getUID().equals(worldId);
+            }, FilterChain.Cost.CHEAP));
+        }
+
+        KeyedCooldown<T> perKey = null;
+        if (keyedCooldown != null) {
+            perKey = new KeyedCooldown<>(cooldownKey, keyedCooldown.toNanos());
+            perKey.open();
+        }
+
+        String name = debugSource != null ? debugSource : type.getSimpleName();
+        if (offload != null) offload.open(plugin, name);
+        if (batcher != null) batcher.open(plugin, name);
 
-        Bukkit.getPluginManager().registerEvent(type, listener, priority, executor, plugin, ignoreCancelled);
+        if (debounceTicks > 0 || coalesceKey != null) {
+            handler = new EventCoalescer<>(handler, coalesceKey, debounceTicks, plugin, exceptionHandler);
+        }
+
+        EventWatchdog.Watch watch = null;
+        if (watchdogBudget != null) {
+            watch = new EventWatchdog.Watch(watchdogBudget, watchdogSuspend, breakerBackoff, EventProfiler.detached(new EventKey(type), name));
+        }
+
+        EventDispatcher<T> dispatcher = EventDispatcher.of(type, priority, ignoreCancelled, plugin);
+        SnowEventExecutor<T> executor = SnowEventExecutor.create(dispatcher, route, handler, FilterChain.compile(filters), forceCancel, executionLimit, cooldown, perKey, exceptionHandler, new FailureTracker(breakerThreshold, breakerWindow, breakerBackoff), debugSource != null ? EventProfiler.register(new EventKey(type), debugSource) : null, watch);
+
+        executor.track(owner, debugSource);
+        if (watch != null) watch.attach(executor);
+        dispatcher.add(executor);
+
+        if (expiry != null) {
+            executor.expireAfter(SnowTicker.toTicks(expiry));
+        }
+
+        if (group != null) {
+            group.add(executor);
+        }
 
-        return executor; // Executor implements Subscription
+        return executor; // Executor implements EventSubscription
     }
 }
@@ -0,0 +1,124 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import io.github.snow1026.snowlib.api.event.Subscription;
+import io.github.snow1026.snowlib.api.event.SubscriptionGroup;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SnowSubscriptionGroup implements SubscriptionGroup {
+    private static final int MIN_PRUNE_THRESHOLD = 64;
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    // 목록에서 빠진 구독의 호출 수와 실패 수입니다. 정리되거나 해제된 뒤에도 그룹의 합계에 남습니다.
+    private final Map<String, Long> retiredFailures = new LinkedHashMap<>();
+    private int retiredCalls;
+    private int pruneThreshold = MIN_PRUNE_THRESHOLD;
+    private boolean active = true;
+
+    @Override
+    public SubscriptionGroup add(Subscription subscription) {
+        synchronized (this) {
+            if (active) {
+                // once()/limit()로 스스로 해제된 구독이 쌓이지 않도록 크기가 두 배가 될 때마다 정리합니다.
+                if (subscriptions.size() >= pruneThreshold) {
+                    subscriptions.removeIf(s -> !s.isActive() && retire(s));
+                    pruneThreshold = Math.max(MIN_PRUNE_THRESHOLD, subscriptions.size() * 2);
+                }
+                subscriptions.add(subscription);
+                return this;
+            }
+        }
+        subscription.unregister();
+        return this;
+    }
+
+    @Override
+    public int size() {
+        synchronized (this) {
+            int count = 0;
+            for (Subscription subscription : subscriptions) {
+                if (subscription.isActive()) count++;
+            }
+            return count;
+        }
+    }
+
+    @Override
+    public void unregister() {
+        List<Subscription> snapshot;
+        synchronized (this) {
+            if (!active) return;
+            active = false;
+            snapshot = new ArrayList<>(subscriptions);
+            subscriptions.clear();
+        }
+
+        // 디스패처별로 모아 한 번씩만 배열을 재구성합니다.
+        Map<EventDispatcher<?>, List<SnowEventExecutor<?>>> byDispatcher = new IdentityHashMap<>();
+        for (Subscription subscription : snapshot) {
+            if (subscription instanceof SnowEventExecutor<?> executor) {
+                if (executor.deactivate()) {
+                    byDispatcher.computeIfAbsent(executor.dispatcher(), d -> new ArrayList<>()).add(executor);
+                }
+            } else {
+                subscription.unregister();
+            }
+        }
+        byDispatcher.forEach(EventDispatcher::removeAll);
+
+        // 해제가 끝나 더 이상 바뀌지 않는 값을 합계에 남깁니다.
+        synchronized (this) {
+            snapshot.forEach(this::retire);
+        }
+    }
+
+    // 빠지는 구독의 값을 합계에 더합니다. removeIf에서 쓰기 위해 항상 true를 반환합니다.
+    private boolean retire(Subscription subscription) {
+        retiredCalls += subscription.getCallCount();
+        subscription.getFailures().forEach((fingerprint, count) -> retiredFailures.merge(fingerprint, count, Long::sum));
+        return true;
+    }
+
+    @Override
+    public boolean isActive() {
+        synchronized (this) {
+            return active;
+        }
+    }
+
+    @Override
+    public int getCallCount() {
+        synchronized (this) {
+            int total = retiredCalls;
+            for (Subscription subscription : subscriptions) {
+                total += subscription.getCallCount();
+            }
+            return total;
+        }
+    }
+
+    @Override
+    public boolean isSuspended() {
+        synchronized (this) {
+            for (Subscription subscription : subscriptions) {
+                if (subscription.isSuspended()) return true;
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public Map<String, Long> getFailures() {
+        synchronized (this) {
+            Map<String, Long> total = new LinkedHashMap<>(retiredFailures);
+            for (Subscription subscription : subscriptions) {
+                subscription.getFailures().forEach((fingerprint, count) -> total.merge(fingerprint, count, Long::sum));
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시 실행 수가 제한된 작업 실행기입니다.
+ * <p>
+ * 작업은 대기열에 들어가고, 세마포어 허가를 얻은 만큼만 주어진 스레드 실행기로 넘어갑니다.
+ * 허가를 기다리는 동안 스레드를 점유하지 않으며, 호출한 스레드는 절대 기다리지 않습니다.
+ * 기능마다 따로 두어, 한쪽에서 블로킹 작업이 한도를 채워도 다른 쪽 작업은 계속 실행되게 합니다.
+ * </p>
+ */
+final class WorkerLane implements Executor {
+    private final Executor threads;
+    private final Semaphore permits;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param threads 작업을 실행할 스레드 실행기 (보통 가상 스레드)
+     * @param limit   동시에 실행할 수 있는 최대 작업 수
+     */
+    WorkerLane(Executor threads, int limit) {
+        this.threads = threads;
+        this.permits = new Semaphore(limit);
+    }
+
+    @Override
+    public void execute(Runnable job) {
+        queue.add(job);
+        drain();
+    }
+
+    // 허가를 얻은 만큼 대기열에서 꺼내 실행합니다. 작업이 끝날 때마다 다시 호출되어 남은 작업을 이어받습니다.
+    private void drain() {
+        while (!queue.isEmpty() && permits.tryAcquire()) {
+            Runnable job = queue.poll();
+            if (job == null) {
+                permits.release();
+                continue;
+            }
+            threads.execute(() -> run(job));
+        }
+    }
+
+    private void run(Runnable job) {
+        try {
+            job.run();
+        } finally {
+            permits.release();
+            drain();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.snow1026.snowlib.internal.task;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bukkit 스케줄러를 거치지 않고 SnowLib이 직접 실행하는 작업의 {@link BukkitTask} 핸들입니다.
+ * <p>
+ * Bukkit 작업 ID와 겹치지 않도록 음수 ID를 사용하며, 취소하면 대기 중인 타이머도 함께 취소됩니다.
+ * </p>
+ */
+public final class SnowTask implements BukkitTask {
+    private static final AtomicInteger ids = new AtomicInteger();
+
+    private final int id = ids.decrementAndGet();
+    private final Plugin owner;
+    private final boolean sync;
+    private volatile boolean cancelled;
+    private volatile TimerWheel.Timeout timeout;
+    private Runnable onCancel;
+
+    SnowTask(Plugin owner, boolean sync) {
+        this.owner = owner;
+        this.sync = sync;
+    }
+
+    /**
+     * 다음 실행을 기다리는 타이머를 기록합니다. 이미 취소된 작업이라면 타이머를 바로 취소합니다.
+     */
+    void await(TimerWheel.Timeout next) {
+        timeout = next;
+        if (cancelled) next.cancel();
+    }
+
+    /**
+     * 작업이 처음 취소될 때 한 번 실행할 정리 작업을 추가합니다. 이미 취소된 작업이라면 바로 실행합니다.
+     */
+    void onCancel(Runnable hook) {
+        synchronized (this) {
+            if (!cancelled) {
+                Runnable previous = onCancel;
+                onCancel = previous == null ? hook : () -> {
+                    previous.run();
+                    hook.run();
+                };
+                return;
+            }
+        }
+        hook.run();
+    }
+
+    @Override
+    public int getTaskId() {
+        return id;
+    }
+
+    @Override
+    public @NotNull Plugin getOwner() {
+        return owner;
+    }
+
+    @Override
+    public boolean isSync() {
+        return sync;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void cancel() {
+        Runnable hook;
+        synchronized (this) {
+            if (cancelled) return;
+            cancelled = true;
+            hook = onCancel;
+        }
+        TimerWheel.Timeout pending = timeout;
+        if (pending != null) pending.cancel();
+        if (hook != null) hook.run();
+    }
+}
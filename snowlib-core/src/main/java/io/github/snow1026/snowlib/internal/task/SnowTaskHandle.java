@@ -0,0 +1,151 @@
+package io.github.snow1026.snowlib.internal.task;
+
+import io.github.snow1026.snowlib.api.task.TaskHandle;
+import io.github.snow1026.snowlib.api.task.TaskPriority;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link TaskHandle} 구현입니다.
+ * <p>
+ * 각 단계는 {@link CompletableFuture} 하나로 표현되며, 메인 스레드 단계는 {@link TickQueue}를,
+ * 비동기 단계는 작업을 만든 {@link SnowTasker}의 실행기를 사용합니다.
+ * 예외는 그 예외를 던진 단계에서만 오류 처리기로 전달되고, 뒤 단계에는 실패로만 전파됩니다.
+ * 모든 단계는 {@link TaskTracker}에 추적되어, 플러그인이 비활성화되면 끝나지 않은 단계가 취소됩니다.
+ * </p>
+ */
+final class SnowTaskHandle<T> implements TaskHandle<T> {
+    private final Plugin owner;
+    private final CompletableFuture<T> future;
+    private final SnowTaskHandle<?> upstream;
+    private final Executor async;
+    private final Executor sync;
+    private final Consumer<Throwable> errorHandler;
+    private volatile BukkitTask task;
+
+    SnowTaskHandle(Plugin owner, Executor async, TaskPriority priority, Consumer<Throwable> errorHandler) {
+        this(owner, new CompletableFuture<>(), null, async, job -> TickQueue.submit(priority, job), errorHandler);
+    }
+
+    private SnowTaskHandle(Plugin owner, CompletableFuture<T> future, SnowTaskHandle<?> upstream, Executor async, Executor sync, Consumer<Throwable> errorHandler) {
+        this.owner = owner;
+        this.future = future;
+        this.upstream = upstream;
+        this.async = async;
+        this.sync = sync;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * 원래 작업의 {@link BukkitTask}를 연결합니다. 이미 취소된 핸들이라면 작업도 바로 취소합니다.
+     * SnowLib 작업은 밖에서 취소되면 바로 핸들을 완료합니다.
+     */
+    void bind(BukkitTask task) {
+        if (this.task == task) return;
+        this.task = task;
+        if (task instanceof SnowTask snowTask) snowTask.onCancel(() -> complete(null));
+        if (future.isCancelled()) task.cancel();
+    }
+
+    /**
+     * 연결된 Bukkit 작업이 밖에서 취소되었다면 핸들을 완료합니다.
+     *
+     * @return 핸들이 끝났다면 true
+     */
+    boolean checkCancelled() {
+        BukkitTask bound = task;
+        if (bound != null && bound.isCancelled()) complete(null);
+        return future.isDone();
+    }
+
+    void complete(T value) {
+        future.complete(value);
+    }
+
+    void fail(Throwable t) {
+        future.completeExceptionally(t);
+    }
+
+    /**
+     * 이 단계가 어떤 식으로든 끝나면 작업을 실행합니다.
+     */
+    void whenDone(Runnable action) {
+        future.whenComplete((value, error) -> action.run());
+    }
+
+    @Override
+    public <R> TaskHandle<R> thenApplySync(Function<? super T, ? extends R> function) {
+        return next(future.thenApplyAsync(guard(function), sync));
+    }
+
+    @Override
+    public <R> TaskHandle<R> thenApplyAsync(Function<? super T, ? extends R> function) {
+        return next(future.thenApplyAsync(guard(function), async));
+    }
+
+    @Override
+    public TaskHandle<Void> thenAcceptSync(Consumer<? super T> action) {
+        return next(future.thenApplyAsync(guard(accepting(action)), sync));
+    }
+
+    @Override
+    public TaskHandle<Void> thenAcceptAsync(Consumer<? super T> action) {
+        return next(future.thenApplyAsync(guard(accepting(action)), async));
+    }
+
+    // 취소는 뒤 단계로만 전파됩니다. 뒤 단계는 CompletableFuture가 실패로 끝내며, 앞 단계와 갈라진 다른 단계는 그대로 둡니다.
+    @Override
+    public boolean cancel() {
+        boolean cancelled = future.cancel(false);
+        BukkitTask bound = task;
+        if (bound != null) bound.cancel();
+        return cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        // 앞 단계가 취소되면 이 단계는 CancellationException을 감싼 실패로 끝나므로 앞 단계도 확인합니다.
+        return future.isCancelled() || (future.isCompletedExceptionally() && upstream != null && upstream.isCancelled());
+    }
+
+    @Override
+    public CompletableFuture<T> toFuture() {
+        return future.copy();
+    }
+
+    private <R> SnowTaskHandle<R> next(CompletableFuture<R> stage) {
+        SnowTaskHandle<R> handle = new SnowTaskHandle<>(owner, stage, this, async, sync, errorHandler);
+        TaskTracker.track(owner, handle);
+        return handle;
+    }
+
+    // 단계에서 던진 예외만 오류 처리기로 보냅니다. 앞 단계의 실패는 CompletableFuture가 함수를 호출하지 않고 전파합니다.
+    private <A, R> Function<A, R> guard(Function<A, R> function) {
+        return value -> {
+            try {
+                return function.apply(value);
+            } catch (Throwable t) {
+                errorHandler.accept(t);
+                throw t instanceof CompletionException ce ? ce : new CompletionException(t);
+            }
+        };
+    }
+
+    private static <A> Function<A, Void> accepting(Consumer<A> action) {
+        return value -> {
+            action.accept(value);
+            return null;
+        };
+    }
+}
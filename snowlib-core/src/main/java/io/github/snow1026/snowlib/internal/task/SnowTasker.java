@@ -1,26 +1,44 @@
 package io.github.snow1026.snowlib.internal.task;
 
+import io.github.snow1026.snowlib.api.task.TaskHandle;
+import io.github.snow1026.snowlib.api.task.TaskPriority;
 import io.github.snow1026.snowlib.api.task.Tasker;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class SnowTasker implements Tasker{
     private static Plugin plugin;
-    private final boolean async;
+    private final Backend backend;
+    private Plugin owner = plugin;
+    private TaskPriority priority = TaskPriority.NORMAL;
     private long delay = 0L;
     private long period = -1L;
+    private Object key;
     private int limit = -1;
     private int count = 0;
     private BooleanSupplier condition = () -> true;
     private Consumer<Throwable> errorHandler = Throwable::printStackTrace;
 
-    public SnowTasker(boolean async) {
-        this.async = async;
+    public SnowTasker(Backend backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * 주기가 정해진 {@link Backend#SPREAD} 작업을 만듭니다.
+     */
+    public SnowTasker(long spreadPeriod) {
+        TaskSpreader.checkPeriod(spreadPeriod);
+        this.backend = Backend.SPREAD;
+        this.period = spreadPeriod;
     }
 
     public static void init(@NotNull Plugin instance) {
@@ -31,6 +49,12 @@ public class SnowTasker implements Tasker{
         return plugin;
     }
 
+    @Override
+    public SnowTasker plugin(Plugin plugin) {
+        this.owner = plugin;
+        return this;
+    }
+
     @Override
     public SnowTasker delay(long ticks) {
         this.delay = ticks;
@@ -39,6 +63,9 @@ public class SnowTasker implements Tasker{
 
     @Override
     public SnowTasker repeat(long period) {
+        if (backend == Backend.SPREAD) {
+            throw new IllegalStateException("The period of Tasker.spread() cannot be changed with repeat().");
+        }
         this.period = period;
         return this;
     }
@@ -55,6 +82,24 @@ public class SnowTasker implements Tasker{
         return this;
     }
 
+    @Override
+    public SnowTasker priority(TaskPriority priority) {
+        if (backend != Backend.QUEUED) {
+            throw new IllegalStateException("priority() is only available for Tasker.queued().");
+        }
+        this.priority = priority;
+        return this;
+    }
+
+    @Override
+    public SnowTasker key(Object key) {
+        if (backend != Backend.SPREAD) {
+            throw new IllegalStateException("key() is only available for Tasker.spread().");
+        }
+        this.key = key;
+        return this;
+    }
+
     @Override
     public SnowTasker onError(Consumer<Throwable> handler) {
         this.errorHandler = handler;
@@ -63,60 +108,184 @@ public class SnowTasker implements Tasker{
 
     @Override
     public void run(Consumer<BukkitTask> taskConsumer) {
+        start(taskConsumer);
+    }
+
+    @Override
+    public TaskHandle<Void> start(Consumer<BukkitTask> taskConsumer) {
+        return launch(task -> {
+            taskConsumer.accept(task);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> TaskHandle<T> supply(Supplier<T> supplier) {
+        if (period != -1L) {
+            throw new IllegalStateException("supply() cannot be used with repeat().");
+        }
+        return launch(task -> supplier.get());
+    }
+
+    // 단일 작업은 실행이 끝나면, 반복 작업은 조건/횟수 제한/취소로 끝나면 핸들을 완료합니다.
+    private <T> TaskHandle<T> launch(Function<BukkitTask, T> body) {
+        if (owner == null) {
+            throw new IllegalStateException("Plugin is not set! Use .plugin(yourPluginInstance) before running.");
+        }
+        SnowTaskHandle<T> handle = new SnowTaskHandle<>(owner, asyncExecutor(), priority, errorHandler);
+        TaskTracker.track(owner, handle);
         Consumer<BukkitTask> wrappedAction = task -> {
+            handle.bind(task);
             try {
-                if (!condition.getAsBoolean()) {
+                if (handle.isCancelled() || !condition.getAsBoolean()) {
                     task.cancel();
+                    handle.complete(null);
                     return;
                 }
 
-                taskConsumer.accept(task);
+                T value = body.apply(task);
                 count++;
 
-                if (limit > 0 && count >= limit) {
+                if (period == -1L) {
+                    handle.complete(value);
+                } else if (limit > 0 && count >= limit) {
+                    // 취소 경로가 핸들을 null로 완료하기 전에 마지막 값을 먼저 전달합니다.
+                    handle.complete(value);
                     task.cancel();
+                } else if (task.isCancelled()) {
+                    handle.complete(null);
                 }
             } catch (Exception e) {
-                errorHandler.accept(e);
+                // 비활성화로 취소되며 인터럽트된 작업의 예외는 오류로 보고하지 않습니다.
+                if (!handle.isCancelled()) errorHandler.accept(e);
+                handle.fail(e);
                 task.cancel();
             }
         };
 
-        if (async) {
+        if (backend == Backend.SPREAD) {
+            handle.bind(runSpread(wrappedAction));
+            return handle;
+        }
+
+        if (backend == Backend.QUEUED || backend == Backend.WHEEL || backend == Backend.VIRTUAL) {
+            handle.bind(runTicked(wrappedAction, handle));
+            return handle;
+        }
+
+        // Bukkit 작업은 밖에서 취소되어도 알려 주지 않으므로, 반복 작업은 주기적으로 취소 여부를 확인합니다.
+        if (period != -1L) TaskTracker.watch(handle);
+
+        if (backend == Backend.ASYNC) {
             if (period == -1L) {
-                Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, wrappedAction, delay);
-                return;
+                Bukkit.getScheduler().runTaskLaterAsynchronously(owner, wrappedAction, delay);
+            } else {
+                Bukkit.getScheduler().runTaskTimerAsynchronously(owner, wrappedAction, delay, period);
             }
-            Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, wrappedAction, delay, period);
         } else {
             if (period == -1L) {
-                Bukkit.getScheduler().runTaskLater(plugin, wrappedAction, delay);
-                return;
+                Bukkit.getScheduler().runTaskLater(owner, wrappedAction, delay);
+            } else {
+                Bukkit.getScheduler().runTaskTimer(owner, wrappedAction, delay, period);
+            }
+        }
+        return handle;
+    }
+
+    // 타이머는 SnowTicker의 휠이 맡습니다. 큐/가상 스레드 모드에서는 만료 시 실행 대신 TickQueue나 VirtualPool에 넣으므로,
+    // 반복 간격이 이전 실행이 끝난 시점부터 세어집니다.
+    private SnowTask runTicked(Consumer<BukkitTask> action, SnowTaskHandle<?> handle) {
+        SnowTask task = new SnowTask(owner, backend != Backend.VIRTUAL);
+        Runnable[] fire = new Runnable[1];
+        Runnable job = () -> {
+            if (task.isCancelled()) return;
+            action.accept(task);
+            if (period != -1L && !task.isCancelled()) {
+                task.await(SnowTicker.schedule(period, fire[0]));
             }
-            Bukkit.getScheduler().runTaskTimer(plugin, wrappedAction, delay, period);
+        };
+        fire[0] = switch (backend) {
+            case QUEUED -> () -> TickQueue.submit(priority, job);
+            case VIRTUAL -> () -> {
+                // 비활성화된 플러그인이라 받지 않았다면 핸들을 취소해 기다리는 쪽이 멈추지 않게 합니다.
+                if (!VirtualPool.submit(owner, job)) handle.cancel();
+            };
+            default -> job;
+        };
+
+        if (backend != Backend.WHEEL && delay <= 0) {
+            fire[0].run();
+        } else {
+            task.await(SnowTicker.schedule(delay, fire[0]));
         }
+        return task;
+    }
+
+    // 주기마다 슬롯을 다시 확인하므로, 부하가 기운 경우 이 작업이 가벼운 슬롯으로 옮겨질 수 있습니다.
+    private SnowTask runSpread(Consumer<BukkitTask> action) {
+        SnowTask task = new SnowTask(owner, true);
+        TaskSpreader.Member member = TaskSpreader.join(period, key);
+        task.onCancel(member::leave);
+        Runnable[] fire = new Runnable[1];
+        fire[0] = () -> {
+            if (task.isCancelled()) return;
+            action.accept(task);
+            if (!task.isCancelled()) {
+                task.await(SnowTicker.schedule(member.next(), fire[0]));
+            }
+        };
+        task.await(SnowTicker.schedule(member.first(delay), fire[0]));
+        return task;
     }
 
     @Override
     public void run(Runnable runnable) {
-        run(task -> runnable.run());
+        start(runnable);
     }
 
     @Override
+    public TaskHandle<Void> start(Runnable runnable) {
+        return start(task -> runnable.run());
+    }
+
+    @Override
+    @Deprecated
     public void thenSync(Runnable nextRunnable) {
-        run(task -> {
-            if (period == -1L || (limit > 0 && count >= limit)) {
-                Tasker.sync().run(nextRunnable);
-            }
-        });
+        start(task -> {}).thenAcceptSync(unused -> nextRunnable.run());
     }
 
     @Override
+    @Deprecated
     public void thenAsync(Runnable nextRunnable) {
-        run(task -> {
-            if (period == -1L || (limit > 0 && count >= limit)) {
-                Tasker.async().run(nextRunnable);
-            }
-        });
+        start(task -> {}).thenAcceptAsync(unused -> nextRunnable.run());
+    }
+
+    // 가상 스레드 작업의 비동기 단계는 같은 플러그인의 가상 스레드 풀에서 실행되어 동시 실행 한도를 함께 따릅니다.
+    private Executor asyncExecutor() {
+        Plugin plugin = owner;
+        if (backend == Backend.VIRTUAL) {
+            return job -> {
+                if (!VirtualPool.submit(plugin, job)) throw new RejectedExecutionException("Plugin " + plugin.getName() + " is disabled.");
+            };
+        }
+        return job -> Bukkit.getScheduler().runTaskAsynchronously(plugin, job);
+    }
+
+    /**
+     * 작업을 실행하는 방식입니다.
+     */
+    public enum Backend {
+        /** Bukkit 스케줄러의 메인 스레드 작업 */
+        SYNC,
+        /** Bukkit 스케줄러의 비동기 작업 */
+        ASYNC,
+        /** 틱 예산 안에서 처리되는 SnowLib 메인 스레드 큐 */
+        QUEUED,
+        /** SnowLib 타이머 휠에서 바로 실행되는 메인 스레드 작업 */
+        WHEEL,
+        /** 플러그인별 동시 실행 한도가 있는 SnowLib 가상 스레드 작업 */
+        VIRTUAL,
+        /** 주기 안의 틱 슬롯에 나뉘어 놓이는 SnowLib 타이머 휠 반복 작업 */
+        SPREAD
     }
 }
@@ -0,0 +1,58 @@
+package io.github.snow1026.snowlib.internal.task;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * SnowLib 내부 시간 처리를 위한 단일 틱 구동기입니다.
+ * <p>
+ * 하나의 Bukkit 반복 작업이 매 틱 {@link TimerWheel}을 진행시키며,
+ * 구독 만료처럼 개별 Bukkit 작업을 만들 필요가 없는 지연 작업들이 이 휠을 공유합니다.
+ * 휠을 진행한 뒤에는 같은 작업 안에서 {@link TickQueue}를 예산만큼 처리합니다.
+ * </p>
+ */
+public final class SnowTicker {
+    // 밖에서 취소된 Bukkit 반복 작업을 확인하는 간격 (틱)
+    private static final long SWEEP_INTERVAL = 20L;
+    private static final TimerWheel wheel = new TimerWheel();
+    private static BukkitTask task;
+
+    private SnowTicker() {}
+
+    public static void start(@NotNull Plugin plugin) {
+        if (task != null) task.cancel();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, SnowTicker::tick, 1L, 1L);
+    }
+
+    // 휠에서 만료된 작업이 큐에 넣은 작업도 같은 틱에 처리되도록 휠을 먼저 진행합니다.
+    private static void tick() {
+        wheel.advance();
+        TickQueue.drain(wheel.currentTick());
+        if (wheel.currentTick() % SWEEP_INTERVAL == 0) TaskTracker.sweep();
+    }
+
+    /**
+     * 지정한 틱 뒤에 메인 스레드에서 작업을 실행하도록 예약합니다.
+     */
+    public static TimerWheel.Timeout schedule(long delayTicks, Runnable runnable) {
+        return wheel.schedule(delayTicks, runnable);
+    }
+
+    /**
+     * @return 구동기가 시작된 이후 진행된 틱 수
+     */
+    public static long currentTick() {
+        return wheel.currentTick();
+    }
+
+    /**
+     * 시간을 틱 단위로 올림 변환합니다. (최소 1틱)
+     */
+    public static long toTicks(Duration duration) {
+        return Math.max(1L, (duration.toMillis() + 49L) / 50L);
+    }
+}
@@ -0,0 +1,184 @@
+package io.github.snow1026.snowlib.internal.task;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 주기의 반복 작업들을 주기 안의 틱 슬롯에 고르게 나누어 배치합니다.
+ * <p>
+ * 주기가 {@code N}틱이면 슬롯은 {@code N}개이며, 슬롯 {@code s}의 작업은 {@code tick % N == s}인 틱에 실행됩니다.
+ * 새 작업은 키의 해시로 슬롯을 고르되, 그 슬롯이 평균보다 무거우면 가장 가벼운 슬롯에 놓입니다.
+ * 작업이 빠지면서 부하가 기울면, 무거운 슬롯의 작업이 다음 실행 때 가장 가벼운 슬롯으로 옮겨집니다.
+ * 옮겨지는 실행 한 번은 간격이 주기보다 짧아질 수 있습니다.
+ * </p>
+ */
+public final class TaskSpreader {
+    /**
+     * 허용하는 가장 긴 주기입니다. (1시간)
+     */
+    public static final long MAX_PERIOD = 72_000L;
+
+    private static final Map<Long, Group> groups = new ConcurrentHashMap<>();
+
+    private TaskSpreader() {}
+
+    /**
+     * 주기 그룹에 작업 하나를 배치합니다.
+     *
+     * @param key 슬롯을 고를 키 (null이면 가장 가벼운 슬롯)
+     */
+    static Member join(long period, Object key) {
+        while (true) {
+            Member member = groups.computeIfAbsent(period, Group::new).join(key);
+            if (member != null) return member;
+            // 마지막 작업이 빠지면서 그룹이 막 제거되었다면 새 그룹에 다시 배치합니다.
+        }
+    }
+
+    public static void checkPeriod(long period) {
+        if (period < 1 || period > MAX_PERIOD) {
+            throw new IllegalArgumentException("Spread period must be between 1 and " + MAX_PERIOD + " ticks: " + period);
+        }
+    }
+
+    /**
+     * @return 주기의 슬롯별 작업 수 (해당 주기의 작업이 없었다면 모두 0)
+     */
+    public static int[] histogram(long period) {
+        checkPeriod(period);
+        Group group = groups.get(period);
+        return group == null ? new int[(int) period] : group.histogram();
+    }
+
+    public static int size(long period) {
+        Group group = groups.get(period);
+        return group == null ? 0 : group.size();
+    }
+
+    public static Set<Long> periods() {
+        Set<Long> periods = new TreeSet<>();
+        groups.forEach((period, group) -> {
+            if (group.size() > 0) periods.add(period);
+        });
+        return periods;
+    }
+
+    private static final class Group {
+        private final int period;
+        private final int[] load;
+        private int total;
+        private boolean removed;
+
+        private Group(long period) {
+            this.period = (int) period;
+            this.load = new int[this.period];
+        }
+
+        /**
+         * @return 배치된 자리, 이미 제거된 그룹이라면 null
+         */
+        private synchronized Member join(Object key) {
+            if (removed) return null;
+            int slot;
+            if (key == null) {
+                slot = lightest();
+            } else {
+                int h = key.hashCode();
+                slot = Math.floorMod(h ^ (h >>> 16), period);
+                if (load[slot] >= ceiling(total + 1)) slot = lightest();
+            }
+            load[slot]++;
+            total++;
+            return new Member(this, slot);
+        }
+
+        // 마지막 작업이 빠지면 그룹을 제거해, 한 번 쓰인 주기의 슬롯 배열이 계속 남지 않게 합니다.
+        private synchronized void leave(Member member) {
+            load[member.slot]--;
+            total--;
+            if (total == 0) {
+                removed = true;
+                groups.remove((long) period, this);
+            }
+        }
+
+        // 슬롯이 평균(올림)보다 무거울 때만 가장 가벼운 슬롯을 찾으므로, 고르게 퍼진 상태에서는 비용이 없습니다.
+        private synchronized void rebalance(Member member) {
+            int slot = member.slot;
+            if (load[slot] <= ceiling(total)) return;
+            int min = lightest();
+            if (load[slot] - load[min] < 2) return;
+            load[slot]--;
+            load[min]++;
+            member.slot = min;
+        }
+
+        private int ceiling(int count) {
+            return (count + period - 1) / period;
+        }
+
+        private int lightest() {
+            int min = 0;
+            for (int i = 1; i < period; i++) {
+                if (load[i] < load[min]) min = i;
+            }
+            return min;
+        }
+
+        private synchronized int[] histogram() {
+            return load.clone();
+        }
+
+        private synchronized int size() {
+            return total;
+        }
+    }
+
+    /**
+     * 그룹에 배치된 작업 하나의 자리입니다.
+     */
+    static final class Member {
+        private final Group group;
+        private int slot;
+        private boolean left;
+
+        private Member(Group group, int slot) {
+            this.group = group;
+            this.slot = slot;
+        }
+
+        /**
+         * 최소 {@code delay}틱 뒤, 자기 슬롯에 처음 닿는 틱까지의 지연을 반환합니다.
+         */
+        long first(long delay) {
+            long wait = Math.max(1L, delay);
+            synchronized (group) {
+                return wait + Math.floorMod(slot - (SnowTicker.currentTick() + wait), (long) group.period);
+            }
+        }
+
+        /**
+         * 필요하면 슬롯을 옮긴 뒤, 다음 실행까지의 지연을 반환합니다. 실행 직후 메인 스레드에서 호출됩니다.
+         */
+        long next() {
+            synchronized (group) {
+                group.rebalance(this);
+                long wait = Math.floorMod(slot - SnowTicker.currentTick(), (long) group.period);
+                return wait == 0 ? group.period : wait;
+            }
+        }
+
+        /**
+         * 그룹에서 빠집니다. 여러 번 호출해도 한 번만 반영됩니다.
+         */
+        void leave() {
+            synchronized (group) {
+                if (left) return;
+                left = true;
+                group.leave(this);
+            }
+        }
+    }
+}
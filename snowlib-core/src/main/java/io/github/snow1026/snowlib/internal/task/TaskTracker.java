@@ -0,0 +1,89 @@
+package io.github.snow1026.snowlib.internal.task;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 플러그인별로 아직 끝나지 않은 {@link SnowTaskHandle}을 추적합니다.
+ * <p>
+ * 원래 작업과 그 뒤에 이어진 단계가 모두 추적되며, 완료된 핸들은 바로 빠집니다.
+ * 플러그인이 비활성화되면 {@link #cancelAll(Plugin)}이 남은 핸들을 모두 취소하므로,
+ * SnowLib 타이머 휠과 메인 스레드 큐에 남은 작업도 비활성화된 플러그인의 코드를 호출하지 않고,
+ * 결과를 기다리던 쪽은 {@link java.util.concurrent.CancellationException}으로 깨어납니다.
+ * Bukkit 스케줄러의 반복 작업은 밖에서 취소되어도 알림이 없으므로, {@link #sweep()}이 주기적으로 취소 여부를 확인합니다.
+ * </p>
+ */
+public final class TaskTracker {
+    private static final Map<Plugin, Owned> owners = new ConcurrentHashMap<>();
+    private static final Set<SnowTaskHandle<?>> watched = ConcurrentHashMap.newKeySet();
+
+    private TaskTracker() {}
+
+    /**
+     * 핸들을 추적합니다. 이미 정리된 플러그인의 핸들이라면 바로 취소합니다.
+     */
+    static void track(Plugin owner, SnowTaskHandle<?> handle) {
+        Owned owned = owners.computeIfAbsent(owner, plugin -> new Owned());
+        boolean added;
+        synchronized (owned) {
+            added = !owned.closed && owner.isEnabled() && owned.handles.add(handle);
+        }
+        if (!added) {
+            handle.cancel();
+            return;
+        }
+        handle.whenDone(() -> owned.handles.remove(handle));
+    }
+
+    /**
+     * Bukkit 스케줄러의 반복 작업 핸들을 {@link #sweep()} 대상에 추가합니다.
+     */
+    static void watch(SnowTaskHandle<?> handle) {
+        watched.add(handle);
+        handle.whenDone(() -> watched.remove(handle));
+    }
+
+    /**
+     * 밖에서 취소된 Bukkit 반복 작업의 핸들을 완료합니다. 메인 스레드에서 주기적으로 호출됩니다.
+     */
+    static void sweep() {
+        if (watched.isEmpty()) return;
+        watched.removeIf(SnowTaskHandle::checkCancelled);
+    }
+
+    /**
+     * 플러그인의 끝나지 않은 작업과 단계를 모두 취소합니다.
+     * 이후 같은 플러그인이 다시 활성화되면 새로 추적합니다.
+     *
+     * @return 취소한 핸들 수
+     */
+    public static int cancelAll(Plugin plugin) {
+        Owned owned = owners.remove(plugin);
+        if (owned == null) return 0;
+        List<SnowTaskHandle<?>> handles;
+        synchronized (owned) {
+            owned.closed = true;
+            handles = new ArrayList<>(owned.handles);
+        }
+        for (SnowTaskHandle<?> handle : handles) handle.cancel();
+        return handles.size();
+    }
+
+    /**
+     * @return 플러그인의 끝나지 않은 핸들 수
+     */
+    public static int count(Plugin plugin) {
+        Owned owned = owners.get(plugin);
+        return owned == null ? 0 : owned.handles.size();
+    }
+
+    private static final class Owned {
+        private final Set<SnowTaskHandle<?>> handles = ConcurrentHashMap.newKeySet();
+        private boolean closed;
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.snow1026.snowlib.internal.task;
+
+import io.github.snow1026.snowlib.api.task.TaskPriority;
+import io.github.snow1026.snowlib.api.task.TaskQueue;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * 매 틱 시간 예산 안에서만 처리되는 메인 스레드 작업 큐입니다.
+ * <p>
+ * 작업은 어느 스레드에서든 추가할 수 있으며, {@link SnowTicker}가 매 틱 우선순위 순으로 꺼내 실행합니다.
+ * 예산을 다 쓰면 남은 작업은 다음 틱으로 넘어가므로, 한꺼번에 들어온 수천 개의 작은 작업이 한 틱에 몰리지 않습니다.
+ * 진행을 보장하기 위해 매 틱 최소 한 개의 작업은 실행됩니다.
+ * 높은 우선순위 작업이 계속 들어오면 낮은 우선순위 작업은 뒤로 밀립니다.
+ * </p>
+ */
+public final class TickQueue {
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Queue<Runnable>[] queues = new Queue[PRIORITIES.length];
+    private static final AtomicInteger[] depths = new AtomicInteger[PRIORITIES.length];
+    private static final LongAdder totalExecuted = new LongAdder();
+
+    private static volatile long budgetNanos = Duration.ofMillis(5).toNanos();
+    private static volatile TaskQueue.DrainStats lastDrain = new TaskQueue.DrainStats(0, 0, 0, 0);
+
+    static {
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+            depths[i] = new AtomicInteger();
+        }
+    }
+
+    private TickQueue() {}
+
+    /**
+     * 작업을 큐에 추가합니다. 어느 스레드에서든 호출할 수 있습니다.
+     */
+    public static void submit(TaskPriority priority, Runnable job) {
+        int index = priority.ordinal();
+        depths[index].incrementAndGet();
+        queues[index].add(job);
+    }
+
+    /**
+     * 예산 안에서 큐를 처리합니다. 메인 스레드에서 매 틱 한 번 호출됩니다.
+     */
+    static void drain(long tick) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        int executed = 0;
+
+        drain:
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            Runnable job;
+            while ((job = queues[i].poll()) != null) {
+                depths[i].decrementAndGet();
+                try {
+                    job.run();
+                } catch (Throwable t) {
+                    SnowTasker.plugin().getLogger().log(Level.SEVERE, "[SnowLib] Exception in queued task", t);
+                }
+                executed++;
+                if (System.nanoTime() - deadline >= 0) break drain;
+            }
+        }
+
+        if (executed > 0) {
+            totalExecuted.add(executed);
+            lastDrain = new TaskQueue.DrainStats(tick, executed, depth(), System.nanoTime() - start);
+        }
+    }
+
+    public static int depth() {
+        int total = 0;
+        for (AtomicInteger depth : depths) total += depth.get();
+        return total;
+    }
+
+    public static int depth(TaskPriority priority) {
+        return depths[priority.ordinal()].get();
+    }
+
+    public static long totalExecuted() {
+        return totalExecuted.sum();
+    }
+
+    public static TaskQueue.DrainStats lastDrain() {
+        return lastDrain;
+    }
+
+    public static Duration budget() {
+        return Duration.ofNanos(budgetNanos);
+    }
+
+    public static void budget(Duration budget) {
+        if (budget.isNegative() || budget.isZero()) throw new IllegalArgumentException("Budget must be positive.");
+        budgetNanos = budget.toNanos();
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.snow1026.snowlib.internal.task;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+
+/**
+ * 틱 단위로 동작하는 계층형 해시드 타이머 휠입니다.
+ * <p>
+ * 예약과 취소는 O(1)이며, 어느 스레드에서든 호출할 수 있습니다. 새 예약은 잠금 없는 큐를 거쳐
+ * {@link #advance()}를 호출하는 스레드(메인 스레드)에서 슬롯에 배치되므로, 슬롯 자료구조는 한 스레드만 다룹니다.
+ * </p>
+ * <p>
+ * 가장 낮은 단계는 256개의 1틱 슬롯이고, 위 단계는 각각 64개의 슬롯이 아래 단계 한 바퀴씩을 맡습니다.
+ * (256틱, 16384틱, 약 104만 틱) 먼 작업은 위 단계에 놓였다가 해당 구간이 가까워지면 아래 단계로 내려오므로,
+ * 매 틱에는 만료되는 슬롯 하나만 확인하고 긴 지연의 작업을 반복해서 건너뛰지 않습니다.
+ * 가장 높은 단계보다 먼 작업은 그 단계의 마지막 구간에 놓였다가 내려올 때 다시 배치됩니다.
+ * </p>
+ */
+public final class TimerWheel {
+    private static final int LEVEL0_BITS = 8;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVELS = 4;
+
+    // 단계마다 첫 슬롯의 위치와 슬롯 한 칸이 맡는 틱 수의 비트 수
+    private static final int[] OFFSETS = new int[LEVELS];
+    private static final int[] SHIFTS = new int[LEVELS];
+    private static final int[] SIZES = new int[LEVELS];
+    private static final int BUCKETS;
+    private static final long MAX_DELTA;
+
+    static {
+        int offset = 0;
+        int shift = 0;
+        for (int level = 0; level < LEVELS; level++) {
+            int bits = level == 0 ? LEVEL0_BITS : LEVEL_BITS;
+            OFFSETS[level] = offset;
+            SHIFTS[level] = shift;
+            SIZES[level] = 1 << bits;
+            offset += 1 << bits;
+            shift += bits;
+        }
+        BUCKETS = offset;
+        MAX_DELTA = (1L << shift) - 1;
+    }
+
+    private final Timeout[] buckets = new Timeout[BUCKETS];
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+
+    private long tick;
+    private int size;
+
+    /**
+     * 지정한 틱 뒤에 작업을 실행하도록 예약합니다.
+     *
+     * @param delayTicks 지연 틱 (최소 1)
+     * @param task       실행할 작업
+     * @return 취소에 사용할 핸들
+     */
+    public Timeout schedule(long delayTicks, Runnable task) {
+        Timeout timeout = new Timeout(this, Math.max(1, delayTicks), task);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 휠을 한 틱 진행시키고, 만료된 작업을 실행합니다.
+     * 항상 같은 스레드에서 호출되어야 합니다.
+     */
+    public void advance() {
+        // 틱 사이에 예약된 작업은 예약된 틱을 기준으로 배치해야 Bukkit의 지연 틱과 같아집니다.
+        transferPending();
+        tick++;
+        processCancelled();
+
+        // 위 단계부터 내려야 내려온 작업이 같은 틱에 다시 아래 단계에서 내려올 수 있습니다.
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((tick & ((1L << SHIFTS[level]) - 1)) == 0) {
+                cascade(level);
+            }
+        }
+
+        int index = (int) (tick & (SIZES[0] - 1));
+        Timeout timeout = buckets[index];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            unlink(timeout);
+            try {
+                timeout.expire();
+            } catch (Throwable t) {
+                SnowTasker.plugin().getLogger().log(Level.SEVERE, "[SnowLib] Exception in timer task", t);
+            }
+            timeout = next;
+        }
+
+        // 실행 중에 예약된 작업(반복 작업의 다음 실행 등)은 현재 틱을 기준으로 배치합니다.
+        transferPending();
+    }
+
+    /**
+     * @return 지금까지 진행된 틱 수
+     */
+    public long currentTick() {
+        return tick;
+    }
+
+    /**
+     * @return 휠에 배치되어 실행을 기다리는 작업 수 (아직 배치되지 않은 새 예약은 제외)
+     */
+    public int size() {
+        return size;
+    }
+
+    private void cascade(int level) {
+        int index = OFFSETS[level] + (int) ((tick >>> SHIFTS[level]) & (SIZES[level] - 1));
+        Timeout timeout = buckets[index];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            unlink(timeout);
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.state != Timeout.WAITING) continue;
+            timeout.deadline = tick + timeout.delay;
+            place(timeout);
+        }
+    }
+
+    // 남은 틱 수로 단계를 고르고, 마감 틱의 해당 단계 비트로 슬롯을 고릅니다.
+    private void place(Timeout timeout) {
+        long delta = timeout.deadline - tick;
+        long target = delta > MAX_DELTA ? tick + MAX_DELTA : timeout.deadline;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << SHIFTS[level + 1]) level++;
+
+        int index = OFFSETS[level] + (int) ((target >>> SHIFTS[level]) & (SIZES[level] - 1));
+        timeout.bucket = index;
+        timeout.prev = null;
+        timeout.next = buckets[index];
+        if (buckets[index] != null) buckets[index].prev = timeout;
+        buckets[index] = timeout;
+        timeout.placed = true;
+        size++;
+    }
+
+    private void processCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.placed) unlink(timeout);
+        }
+    }
+
+    private void unlink(Timeout timeout) {
+        int index = timeout.bucket;
+        if (timeout.prev != null) timeout.prev.next = timeout.next;
+        else buckets[index] = timeout.next;
+        if (timeout.next != null) timeout.next.prev = timeout.prev;
+        timeout.prev = timeout.next = null;
+        timeout.placed = false;
+        size--;
+    }
+
+    /**
+     * 예약된 작업의 핸들입니다.
+     */
+    public static final class Timeout {
+        private static final int WAITING = 0, CANCELLED = 1, EXPIRED = 2;
+
+        private final TimerWheel wheel;
+        private final long delay;
+        private final Runnable task;
+
+        private volatile int state = WAITING;
+        private long deadline;
+        private int bucket;
+        private boolean placed;
+        private Timeout prev, next;
+
+        private Timeout(TimerWheel wheel, long delay, Runnable task) {
+            this.wheel = wheel;
+            this.delay = delay;
+            this.task = task;
+        }
+
+        /**
+         * 아직 실행되지 않은 작업을 취소합니다. 휠에서의 제거는 다음 틱에 처리됩니다.
+         */
+        public void cancel() {
+            synchronized (this) {
+                if (state != WAITING) return;
+                state = CANCELLED;
+            }
+            wheel.cancelled.add(this);
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        private void expire() {
+            synchronized (this) {
+                if (state != WAITING) return;
+                state = EXPIRED;
+            }
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.snow1026.snowlib.internal.task;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * 플러그인별 동시 실행 수가 제한된 가상 스레드 작업 풀입니다.
+ * <p>
+ * 작업은 플러그인마다 하나인 대기열에 들어가고, 세마포어 허가를 얻은 만큼만 가상 스레드에서 실행됩니다.
+ * 허가를 기다리는 동안에도 스레드를 점유하지 않으며, 호출한 스레드(메인 스레드 포함)는 절대 기다리지 않습니다.
+ * 플러그인이 비활성화되면 대기 중인 작업은 버려지고, 실행 중인 작업에는 인터럽트가 전달됩니다.
+ * </p>
+ */
+public final class VirtualPool {
+    private static final ExecutorService workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("SnowLib-Task-", 0).factory());
+    private static final Map<Plugin, Lane> lanes = new ConcurrentHashMap<>();
+    private static final LongAdder totalCompleted = new LongAdder();
+
+    private static volatile int defaultLimit = 256;
+
+    private VirtualPool() {}
+
+    /**
+     * 작업을 플러그인의 대기열에 추가합니다. 어느 스레드에서든 호출할 수 있습니다.
+     *
+     * @return 비활성화된 플러그인이라 작업을 받지 않았다면 false
+     */
+    public static boolean submit(Plugin plugin, Runnable job) {
+        if (!plugin.isEnabled()) return false;
+        Lane lane = lanes.computeIfAbsent(plugin, Lane::new);
+        if (!lane.offer(job)) return false;
+        lane.drain();
+        return true;
+    }
+
+    /**
+     * 플러그인의 대기 중인 작업을 버리고, 실행 중인 작업에 인터럽트를 보냅니다.
+     * 버려진 작업의 결과를 기다리는 쪽이 멈추지 않도록, 먼저 {@link TaskTracker#cancelAll(Plugin)}으로 핸들을 취소해야 합니다.
+     * 이후 같은 플러그인이 다시 활성화되면 새 대기열이 만들어집니다.
+     *
+     * @return 버려진 대기 작업 수
+     */
+    public static int shutdown(Plugin plugin) {
+        Lane lane = lanes.remove(plugin);
+        return lane == null ? 0 : lane.close();
+    }
+
+    public static void limit(Plugin plugin, int limit) {
+        if (limit < 1) throw new IllegalArgumentException("Concurrency limit must be at least 1: " + limit);
+        Lane lane = lanes.computeIfAbsent(plugin, Lane::new);
+        lane.resize(limit);
+        lane.drain();
+    }
+
+    public static int limit(Plugin plugin) {
+        Lane lane = lanes.get(plugin);
+        return lane == null ? defaultLimit : lane.limit;
+    }
+
+    public static void defaultLimit(int limit) {
+        if (limit < 1) throw new IllegalArgumentException("Concurrency limit must be at least 1: " + limit);
+        defaultLimit = limit;
+    }
+
+    public static int defaultLimit() {
+        return defaultLimit;
+    }
+
+    public static int inFlight(Plugin plugin) {
+        Lane lane = lanes.get(plugin);
+        return lane == null ? 0 : lane.inFlight.get();
+    }
+
+    public static int inFlight() {
+        int total = 0;
+        for (Lane lane : lanes.values()) total += lane.inFlight.get();
+        return total;
+    }
+
+    public static int queued(Plugin plugin) {
+        Lane lane = lanes.get(plugin);
+        return lane == null ? 0 : lane.queued.get();
+    }
+
+    public static int queued() {
+        int total = 0;
+        for (Lane lane : lanes.values()) total += lane.queued.get();
+        return total;
+    }
+
+    public static long totalCompleted() {
+        return totalCompleted.sum();
+    }
+
+    private static final class Lane {
+        private final Plugin plugin;
+        private final Permits permits;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final Set<Thread> running = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile int limit;
+        private volatile boolean closed;
+
+        private Lane(Plugin plugin) {
+            this.plugin = plugin;
+            this.limit = defaultLimit;
+            this.permits = new Permits(limit);
+        }
+
+        private boolean offer(Runnable job) {
+            if (closed) return false;
+            queued.incrementAndGet();
+            queue.add(job);
+            return true;
+        }
+
+        // 허가를 얻은 만큼 대기열에서 꺼내 실행합니다. 작업이 끝날 때마다 다시 호출되어 남은 작업을 이어받습니다.
+        private void drain() {
+            while (!closed && !queue.isEmpty() && permits.tryAcquire()) {
+                Runnable job = queue.poll();
+                if (job == null) {
+                    permits.release();
+                    continue;
+                }
+                queued.decrementAndGet();
+                inFlight.incrementAndGet();
+                workers.execute(() -> run(job));
+            }
+        }
+
+        private void run(Runnable job) {
+            Thread thread = Thread.currentThread();
+            running.add(thread);
+            try {
+                if (!closed) job.run();
+            } catch (Throwable t) {
+                plugin.getLogger().log(Level.SEVERE, "[SnowLib] Exception in virtual task", t);
+            } finally {
+                running.remove(thread);
+                Thread.interrupted();
+                inFlight.decrementAndGet();
+                totalCompleted.increment();
+                permits.release();
+                drain();
+            }
+        }
+
+        private synchronized void resize(int limit) {
+            int delta = limit - this.limit;
+            this.limit = limit;
+            if (delta > 0) permits.release(delta);
+            else if (delta < 0) permits.reduce(-delta);
+        }
+
+        private int close() {
+            closed = true;
+            int dropped = 0;
+            while (queue.poll() != null) dropped++;
+            queued.addAndGet(-dropped);
+            for (Thread thread : running) thread.interrupt();
+            return dropped;
+        }
+    }
+
+    // 실행 중에 한도를 줄일 수 있도록 reducePermits를 노출합니다. 줄어든 만큼은 실행 중인 작업이 끝나면서 반영됩니다.
+    private static final class Permits extends Semaphore {
+        private Permits(int permits) {
+            super(permits);
+        }
+
+        private void reduce(int reduction) {
+            reducePermits(reduction);
+        }
+    }
+}
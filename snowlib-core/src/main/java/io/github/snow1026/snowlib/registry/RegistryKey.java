@@ -10,6 +10,7 @@ public record RegistryKey(SnowKey key) {
     public static final RegistryKey ATTRIBUTE = new RegistryKey("attribute");
     public static final RegistryKey COMMAND = new RegistryKey("command");
     public static final RegistryKey ENCHANTMENT = new RegistryKey("enchantment");
+    public static final RegistryKey EVENT = new RegistryKey("event");
 
     private RegistryKey(String path) {
         this(new SnowKey(SnowLibrary.snowlibrary().getName(), path));
@@ -0,0 +1,117 @@
+package io.github.snow1026.snowlib.registry.internal;
+
+import io.github.snow1026.snowlib.SnowKey;
+import io.github.snow1026.snowlib.api.event.EventSubscription;
+import io.github.snow1026.snowlib.internal.event.EventSubscriptions;
+import io.github.snow1026.snowlib.registry.SnowRegistry;
+import org.bukkit.event.Event;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 활성 상태인 이벤트 구독을 조회하고 강제로 해제하는 레지스트리입니다.
+ * <p>
+ * 구독은 {@link io.github.snow1026.snowlib.api.event.Events#register()} 시 자동으로 기록되므로 직접 등록할 수 없습니다.
+ * 플러그인이 비활성화되면 해당 플러그인의 구독은 모두 자동으로 해제됩니다.
+ * </p>
+ */
+public final class EventSubscriptionRegistry implements SnowRegistry<EventSubscription> {
+
+    private EventSubscriptionRegistry() {}
+
+    /**
+     * 지원하지 않습니다. 구독은 {@code Events.register()}로 등록됩니다.
+     *
+     * @throws UnsupportedOperationException 항상
+     */
+    @Override
+    public void register(SnowKey key, EventSubscription target) {
+        throw new UnsupportedOperationException("Event subscriptions are registered through Events#register().");
+    }
+
+    @Override
+    public void unregister(SnowKey key) {
+        if (key == null) return;
+        EventSubscription subscription = EventSubscriptions.get(key);
+        if (subscription != null) subscription.unregister();
+    }
+
+    @Override
+    public EventSubscription get(SnowKey key) {
+        return EventSubscriptions.get(key);
+    }
+
+    @Override
+    public Collection<EventSubscription> getAll() {
+        return Collections.unmodifiableCollection(EventSubscriptions.entries().values());
+    }
+
+    @Override
+    public Map<SnowKey, EventSubscription> getEntries() {
+        return EventSubscriptions.entries();
+    }
+
+    /**
+     * 플러그인이 소유한 활성 구독을 반환합니다.
+     *
+     * @param plugin 플러그인
+     * @return 구독 목록의 복사본
+     */
+    public List<EventSubscription> getByPlugin(Plugin plugin) {
+        return EventSubscriptions.byPlugin(plugin);
+    }
+
+    /**
+     * 이벤트 타입을 구독하는 활성 구독을 반환합니다.
+     *
+     * @param type 이벤트 타입
+     * @return 구독 목록의 복사본
+     */
+    public List<EventSubscription> getByType(Class<? extends Event> type) {
+        return EventSubscriptions.byType(type);
+    }
+
+    /**
+     * 소유 객체로 등록된 활성 구독을 반환합니다.
+     *
+     * @param owner 소유 객체
+     * @return 구독 목록의 복사본
+     * @see io.github.snow1026.snowlib.api.event.Events#owner(Object)
+     */
+    public List<EventSubscription> getByOwner(Object owner) {
+        return EventSubscriptions.byOwner(owner);
+    }
+
+    /**
+     * 플러그인 이름별 활성 구독 수를 반환합니다.
+     *
+     * @return 플러그인 이름과 구독 수의 맵
+     */
+    public Map<String, Integer> countByPlugin() {
+        return EventSubscriptions.countByPlugin();
+    }
+
+    /**
+     * 활성 구독 전체의 추정 메모리 크기를 반환합니다.
+     *
+     * @return 추정 크기 (바이트)
+     * @see EventSubscription#estimatedSize()
+     */
+    public long estimatedSize() {
+        return EventSubscriptions.estimatedSize();
+    }
+
+    /**
+     * 소유 객체로 등록된 구독을 모두 강제로 해제합니다.
+     *
+     * @param owner 소유 객체
+     * @return 해제된 구독 수
+     */
+    public int unregisterOwner(Object owner) {
+        return EventSubscriptions.unregisterOwner(owner);
+    }
+}
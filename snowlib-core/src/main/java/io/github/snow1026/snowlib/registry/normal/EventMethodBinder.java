@@ -0,0 +1,97 @@
+package io.github.snow1026.snowlib.registry.normal;
+
+import io.github.snow1026.snowlib.annotations.event.SnowEvent;
+import org.bukkit.event.Event;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * {@link SnowEvent} 메서드를 등록 시점에 한 번만 바인딩하여, 이벤트마다 일반 가상 호출 비용으로 실행되게 합니다.
+ * <p>
+ * 대상 클래스에 대한 완전한 접근 권한을 얻을 수 있으면 {@link LambdaMetafactory}로 {@link Consumer} 구현을 직접 생성하고,
+ * 그렇지 않은 경우(다른 플러그인 클래스로더의 클래스 등) {@link MethodHandle}을 리스너에 묶어 사용합니다.
+ * 메서드는 이름이 아닌 {@link Method} 객체로 바인딩되므로 오버로드나 상속된 메서드도 모호함 없이 처리됩니다.
+ * </p>
+ */
+final class EventMethodBinder {
+    private EventMethodBinder() {}
+
+    /**
+     * 클래스와 그 상위 클래스들에 선언된 {@link SnowEvent} 메서드를 수집합니다.
+     * 하위 클래스에서 재정의된 메서드는 한 번만 포함됩니다.
+     */
+    static List<Method> collect(Class<?> type) {
+        List<Method> methods = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic()) continue;
+                if (!method.isAnnotationPresent(SnowEvent.class)) continue;
+
+                String signature = method.getName() + Arrays.toString(method.getParameterTypes());
+                // private 메서드는 재정의되지 않으므로 상위 클래스의 것도 별개로 취급합니다.
+                if (!Modifier.isPrivate(method.getModifiers()) && !seen.add(signature)) continue;
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * 메서드를 리스너 인스턴스에 묶은 {@link Consumer}로 변환합니다.
+     *
+     * @param listener 메서드를 가진 인스턴스 (static 메서드인 경우 무시됩니다)
+     * @param method   {@code void method(SomeEvent)} 형태의 메서드
+     */
+    @SuppressWarnings("unchecked")
+    static Consumer<Event> bind(Object listener, Method method) {
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        Class<?> eventType = method.getParameterTypes()[0];
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            if (lookup.hasFullPrivilegeAccess()) {
+                MethodHandle target = lookup.unreflect(method);
+                MethodType factoryType = isStatic ? MethodType.methodType(Consumer.class) : MethodType.methodType(Consumer.class, method.getDeclaringClass());
+                CallSite site = LambdaMetafactory.metafactory(lookup, "accept", factoryType, MethodType.methodType(void.class, Object.class), target, MethodType.methodType(void.class, eventType));
+                return (Consumer<Event>) (isStatic ? site.getTarget().invoke() : site.getTarget().invoke(listener));
+            }
+        } catch (Throwable ignored) {
+            // 접근 권한이 부족하거나 메타팩토리가 거부한 경우 MethodHandle 방식으로 대체합니다.
+        }
+
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (!isStatic) handle = handle.bindTo(listener);
+            MethodHandle invoker = handle.asType(MethodType.methodType(void.class, Event.class));
+            return event -> {
+                try {
+                    invoker.invokeExact(event);
+                } catch (Throwable t) {
+                    throw EventMethodBinder.<RuntimeException>sneakyThrow(t);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Cannot bind @SnowEvent method: " + method, e);
+        }
+    }
+
+    // 핸들러가 던진 예외를 감싸지 않고 그대로 이벤트 예외 처리기로 전달합니다. (EventMethodGroup도 사용)
+    @SuppressWarnings("unchecked")
+    static <X extends Throwable> X sneakyThrow(Throwable t) throws X {
+        throw (X) t;
+    }
+}
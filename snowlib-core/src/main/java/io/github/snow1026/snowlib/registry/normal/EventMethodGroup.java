@@ -0,0 +1,296 @@
+package io.github.snow1026.snowlib.registry.normal;
+
+import io.github.snow1026.snowlib.annotations.event.SnowEvent;
+import io.github.snow1026.snowlib.api.event.Events;
+import io.github.snow1026.snowlib.api.event.Filters;
+import io.github.snow1026.snowlib.api.event.Subscription;
+import io.github.snow1026.snowlib.internal.event.EventStage;
+import io.github.snow1026.snowlib.internal.event.EventSubjects;
+import io.github.snow1026.snowlib.internal.event.FailureTracker;
+import io.github.snow1026.snowlib.internal.task.SnowTicker;
+import io.github.snow1026.snowlib.internal.task.TimerWheel;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.plugin.Plugin;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * 한 리스너 객체의 {@link SnowEvent} 메서드를 모아 등록합니다.
+ * <p>
+ * 이벤트 타입, 우선순위, {@code ignoreCancelled}가 같은 메서드들은 하나의 구독(디스패치 노드)으로 합쳐져
+ * 이벤트마다 한 번만 호출되고, 노드 안에서 선언 순서대로 각 메서드를 실행합니다.
+ * 권한 검사처럼 메서드끼리 겹치는 필터는 이벤트 하나에 대해 한 번만 계산되며, 플레이어도 한 번만 추출됩니다.
+ * {@code cancel}, {@code limit}, {@code expireSeconds}는 메서드마다 따로 적용되고,
+ * 노드의 모든 메서드가 끝나면 구독이 해제됩니다.
+ * 메서드의 예외는 노드 안에서 메서드별로 집계되고 기록되므로, 한 메서드의 실패가 같은 노드의 다른 메서드에 영향을 주지 않습니다.
+ * </p>
+ * <p>
+ * 디버그가 켜진 메서드는 메서드별 통계를 위해, 혼자인 메서드는 추가 비용이 없도록 기존처럼 개별 구독으로 등록됩니다.
+ * {@link EventRegistry}와 {@code snowlib-processor}가 생성한 {@link EventRegistrar}가 함께 사용합니다.
+ * </p>
+ */
+public final class EventMethodGroup {
+    private final Plugin plugin;
+    private final Object owner;
+    private final Map<GroupKey, List<Method<?>>> groups = new LinkedHashMap<>();
+    private boolean registered;
+
+    /**
+     * @param plugin 구독을 소유할 플러그인
+     * @param owner  구독의 소유 객체 (보통 리스너 인스턴스)
+     */
+    public EventMethodGroup(Plugin plugin, Object owner) {
+        this.plugin = plugin;
+        this.owner = owner;
+    }
+
+    /**
+     * 메서드 하나를 추가합니다.
+     *
+     * @param type            이벤트 타입
+     * @param name            로그에 표시할 메서드 이름 (보통 {@code Listener#method}, null이면 이벤트 이름으로 표시)
+     * @param handler         메서드를 호출하는 핸들러
+     * @param priority        이벤트 우선순위
+     * @param ignoreCancelled 취소된 이벤트 무시 여부
+     * @param cancel          실행 후 이벤트 강제 취소 여부
+     * @param limit           최대 실행 횟수 (0 이하는 무제한)
+     * @param expireSeconds   만료 시간 (초 단위, 0 이하는 만료 없음)
+     * @param permission      플레이어에게 필요한 권한 (빈 문자열은 검사하지 않음)
+     * @param debugSource     디버그 소스 이름 (null이면 디버그하지 않음)
+     * @return 이 그룹
+     */
+    public <E extends Event> EventMethodGroup add(Class<E> type, String name, Consumer<? super E> handler, EventPriority priority, boolean ignoreCancelled, boolean cancel, int limit, long expireSeconds, String permission, String debugSource) {
+        if (registered) throw new IllegalStateException("EventMethodGroup is already registered.");
+        groups.computeIfAbsent(new GroupKey(type, priority, ignoreCancelled), k -> new ArrayList<>())
+                .add(new Method<>(type, name, handler, priority, ignoreCancelled, cancel, limit, expireSeconds, permission == null ? "" : permission, debugSource));
+        return this;
+    }
+
+    /**
+     * 추가된 메서드를 그룹별로 등록합니다.
+     */
+    public void register() {
+        if (registered) throw new IllegalStateException("EventMethodGroup is already registered.");
+        registered = true;
+
+        for (List<Method<?>> methods : groups.values()) {
+            List<Method<?>> merged = new ArrayList<>();
+            for (Method<?> method : methods) {
+                if (method.debugSource != null) registerAlone(method);
+                else merged.add(method);
+            }
+            if (merged.size() == 1) registerAlone(merged.get(0));
+            else if (!merged.isEmpty()) registerNode(merged);
+        }
+    }
+
+    private <E extends Event> void registerAlone(Method<E> method) {
+        Events<E> builder = Events.listen(method.type, method.handler::accept).plugin(plugin).owner(owner).priority(method.priority)
+                .ignoreCancelled(method.ignoreCancelled).cancel(method.cancel).limit(method.limit);
+        if (!method.permission.isEmpty()) builder.filter(Filters.hasPermission(method.permission));
+        if (method.expireSeconds > 0) builder.expireAfter(Duration.ofSeconds(method.expireSeconds));
+        if (method.debugSource != null) builder.debug(method.debugSource);
+        builder.register();
+    }
+
+    private void registerNode(List<Method<?>> methods) {
+        Method<?> first = methods.get(0);
+        Node node = new Node(plugin, methods, first.ignoreCancelled);
+        node.subscription = listen(first.type, node).plugin(plugin).owner(owner).priority(first.priority).ignoreCancelled(first.ignoreCancelled).register();
+        // 구독 객체가 연결되기 전에 모든 메서드가 끝났을 수 있습니다. (비동기 이벤트)
+        if (node.remaining.get() == 0) node.subscription.unregister();
+        else node.scheduleExpiry();
+    }
+
+    // 노드를 그대로 핸들러로 넘겨야 구독이 해제될 때 close()가 호출됩니다.
+    @SuppressWarnings("unchecked")
+    private static <T extends Event> Events<T> listen(Class<T> type, Node node) {
+        Consumer<? super T> handler = node;
+        return Events.listen(type, (Consumer<T>) handler);
+    }
+
+    private record GroupKey(Class<? extends Event> type, EventPriority priority, boolean ignoreCancelled) {}
+
+    private static final class Method<E extends Event> {
+        private final Class<E> type;
+        private final String name;
+        private final Consumer<? super E> handler;
+        private final EventPriority priority;
+        private final boolean ignoreCancelled;
+        private final boolean cancel;
+        private final int limit;
+        private final long expireSeconds;
+        private final String permission;
+        private final String debugSource;
+        private final FailureTracker failures = new FailureTracker();
+
+        private Method(Class<E> type, String name, Consumer<? super E> handler, EventPriority priority, boolean ignoreCancelled, boolean cancel, int limit, long expireSeconds, String permission, String debugSource) {
+            this.type = type;
+            this.name = name;
+            this.handler = handler;
+            this.priority = priority;
+            this.ignoreCancelled = ignoreCancelled;
+            this.cancel = cancel;
+            this.limit = limit;
+            this.expireSeconds = expireSeconds;
+            this.permission = permission;
+            this.debugSource = debugSource;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void invoke(Event e) {
+            ((Consumer<Event>) handler).accept(e);
+        }
+    }
+
+    /**
+     * 한 구독으로 합쳐진 메서드들입니다. 메서드마다 활성 상태와 실행 횟수를 따로 가집니다.
+     * 구독이 어떤 이유로든 해제되면 {@link #close()}가 남은 만료 예약을 취소합니다.
+     */
+    private static final class Node implements EventStage<Event> {
+        // 이벤트 하나에서 캐시할 수 있는 서로 다른 권한의 수 (비트 마스크 크기)
+        private static final int MAX_CACHED_PERMISSIONS = Long.SIZE;
+
+        private final Logger logger;
+        private final Method<?>[] methods;
+        private final int[] permissionSlots;
+        private final AtomicBoolean[] active;
+        private final AtomicInteger[] calls;
+        private final AtomicInteger remaining;
+        private final boolean ignoreCancelled;
+        private final TimerWheel.Timeout[] expiries;
+        private volatile Subscription subscription;
+        private boolean closed;
+
+        private Node(Plugin plugin, List<Method<?>> methods, boolean ignoreCancelled) {
+            this.logger = plugin.getLogger();
+            this.methods = methods.toArray(Method<?>[]::new);
+            this.permissionSlots = new int[this.methods.length];
+            this.active = new AtomicBoolean[this.methods.length];
+            this.calls = new AtomicInteger[this.methods.length];
+            this.expiries = new TimerWheel.Timeout[this.methods.length];
+            this.remaining = new AtomicInteger(this.methods.length);
+            this.ignoreCancelled = ignoreCancelled;
+
+            // 같은 권한 노드는 같은 슬롯을 공유해 이벤트마다 한 번만 검사됩니다.
+            Map<String, Integer> slots = new HashMap<>();
+            for (int i = 0; i < this.methods.length; i++) {
+                String permission = this.methods[i].permission;
+                Integer slot = null;
+                if (!permission.isEmpty()) {
+                    slot = slots.get(permission);
+                    if (slot == null && slots.size() < MAX_CACHED_PERMISSIONS) {
+                        slot = slots.size();
+                        slots.put(permission, slot);
+                    }
+                }
+                // -1: 권한 없음, -2: 캐시 슬롯이 모자라 매번 검사
+                permissionSlots[i] = permission.isEmpty() ? -1 : slot != null ? slot : -2;
+                active[i] = new AtomicBoolean(true);
+                calls[i] = new AtomicInteger();
+            }
+        }
+
+        private synchronized void scheduleExpiry() {
+            if (closed) return;
+            for (int i = 0; i < methods.length; i++) {
+                if (methods[i].expireSeconds <= 0) continue;
+                int index = i;
+                expiries[i] = SnowTicker.schedule(SnowTicker.toTicks(Duration.ofSeconds(methods[i].expireSeconds)), () -> retire(index));
+            }
+        }
+
+        /**
+         * 구독이 해제될 때 호출됩니다. 만료 예약이 리스너와 플러그인을 붙잡고 남지 않도록 모두 취소합니다.
+         */
+        @Override
+        public synchronized void close() {
+            if (closed) return;
+            closed = true;
+            for (int i = 0; i < methods.length; i++) {
+                active[i].set(false);
+                TimerWheel.Timeout timeout = expiries[i];
+                if (timeout != null) timeout.cancel();
+                expiries[i] = null;
+            }
+        }
+
+        @Override
+        public void accept(Event e) {
+            Player player = null;
+            boolean playerResolved = false;
+            long checked = 0;
+            long granted = 0;
+
+            for (int i = 0; i < methods.length; i++) {
+                if (!active[i].get()) continue;
+                Method<?> method = methods[i];
+
+                // 앞선 메서드가 이벤트를 취소했다면, 개별 구독일 때와 마찬가지로 나머지를 건너뜁니다.
+                if (ignoreCancelled && e instanceof Cancellable c && c.isCancelled()) break;
+
+                int slot = permissionSlots[i];
+                if (slot != -1) {
+                    if (!playerResolved) {
+                        player = EventSubjects.player(e);
+                        playerResolved = true;
+                    }
+                    if (player == null) continue;
+                    if (slot == -2) {
+                        if (!player.hasPermission(method.permission)) continue;
+                    } else {
+                        long bit = 1L << slot;
+                        if ((checked & bit) == 0) {
+                            checked |= bit;
+                            if (player.hasPermission(method.permission)) granted |= bit;
+                        }
+                        if ((granted & bit) == 0) continue;
+                    }
+                }
+
+                try {
+                    method.invoke(e);
+                } catch (Throwable t) {
+                    // 공유 구독으로 예외를 넘기면 구독 전체의 실패로 집계되므로, 메서드별로 집계하고 다음 메서드로 넘어갑니다.
+                    method.failures.record(e, method.name, t, logger, true);
+                    continue;
+                }
+
+                if (method.cancel && e instanceof Cancellable c) {
+                    c.setCancelled(true);
+                }
+                if (method.limit > 0 && calls[i].incrementAndGet() >= method.limit) {
+                    retire(i);
+                }
+            }
+        }
+
+        // 메서드 하나를 끝냅니다. 마지막 메서드가 끝나면 구독 전체를 해제합니다.
+        private void retire(int index) {
+            if (!active[index].compareAndSet(true, false)) return;
+            cancelExpiry(index);
+            if (remaining.decrementAndGet() == 0) {
+                Subscription current = subscription;
+                if (current != null) current.unregister();
+            }
+        }
+
+        private synchronized void cancelExpiry(int index) {
+            TimerWheel.Timeout timeout = expiries[index];
+            if (timeout != null) timeout.cancel();
+            expiries[index] = null;
+        }
+    }
+}
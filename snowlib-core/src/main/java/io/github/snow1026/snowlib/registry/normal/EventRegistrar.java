@@ -0,0 +1,24 @@
+package io.github.snow1026.snowlib.registry.normal;
+
+import org.bukkit.plugin.Plugin;
+
+/**
+ * {@code snowlib-processor}가 컴파일 시점에 생성하는 리스너별 등록 클래스의 공통 인터페이스입니다.
+ * <p>
+ * 생성된 클래스는 리스너와 같은 패키지에 {@code <리스너 바이너리 이름>$$SnowEventRegistrar}라는 이름으로 만들어지며,
+ * {@link EventRegistry#register(Plugin, Object)}가 이를 발견하면 리플렉션 스캔 대신 사용합니다.
+ * 직접 구현할 필요는 없습니다.
+ * </p>
+ */
+public interface EventRegistrar {
+    /** 생성된 등록 클래스 이름의 접미사입니다. */
+    String SUFFIX = "$$SnowEventRegistrar";
+
+    /**
+     * 리스너의 모든 {@link io.github.snow1026.snowlib.annotations.event.SnowEvent} 메서드를 등록합니다.
+     *
+     * @param plugin   이벤트를 소유할 플러그인
+     * @param listener 등록 클래스가 생성된 타입의 인스턴스
+     */
+    void register(Plugin plugin, Object listener);
+}
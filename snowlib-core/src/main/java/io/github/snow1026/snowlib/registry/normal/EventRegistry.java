@@ -2,20 +2,34 @@ package io.github.snow1026.snowlib.registry.normal;
 
 import io.github.snow1026.snowlib.SnowLibrary;
 import io.github.snow1026.snowlib.annotations.event.SnowEvent;
-import io.github.snow1026.snowlib.api.event.Events;
-import io.github.snow1026.snowlib.utils.reflect.Reflection;
+import io.github.snow1026.snowlib.internal.event.EventSubscriptions;
 import org.bukkit.event.Event;
 import org.bukkit.plugin.Plugin;
 
 import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 클래스 내의 {@link SnowEvent} 어노테이션을 찾아 자동으로 등록하는 스캐너입니다.
  * <p>
- * 이 클래스는 {@link Reflection} 유틸리티를 사용하여 안전하게 메서드에 접근합니다.
+ * 각 메서드는 등록 시점에 {@link EventMethodBinder}를 통해 한 번만 바인딩되므로,
+ * 이벤트 발생 시에는 리플렉션 없이 일반 메서드 호출 비용으로 실행됩니다.
+ * 상위 클래스에 선언된 메서드와 private 메서드도 등록됩니다.
+ * 같은 이벤트 타입과 우선순위를 가진 메서드들은 {@link EventMethodGroup}을 통해 하나의 구독으로 합쳐집니다.
+ * </p>
+ * <p>
+ * 리스너 클래스가 {@code snowlib-processor}로 컴파일되어 {@link EventRegistrar}가 생성되어 있다면
+ * 메서드 스캔 없이 생성된 클래스로 바로 등록합니다.
  * </p>
  */
 public final class EventRegistry {
+    private static final ClassValue<Optional<EventRegistrar>> registrars = new ClassValue<>() {
+        @Override
+        protected Optional<EventRegistrar> computeValue(Class<?> type) {
+            return loadRegistrar(type);
+        }
+    };
 
     private EventRegistry() {}
 
@@ -30,10 +44,14 @@ public final class EventRegistry {
      * @param listener 어노테이션이 포함된 클래스의 인스턴스
      */
     public static void register(Plugin plugin, Object listener) {
-        // Reflection 유틸리티를 사용하여 모든 메서드 순회 (상속된 메서드 포함 가능)
-        for (Method method : listener.getClass().getDeclaredMethods()) {
-            if (!method.isAnnotationPresent(SnowEvent.class)) continue;
+        Optional<EventRegistrar> registrar = registrars.get(listener.getClass());
+        if (registrar.isPresent()) {
+            registrar.get().register(plugin, listener);
+            return;
+        }
 
+        EventMethodGroup group = new EventMethodGroup(plugin, listener);
+        for (Method method : EventMethodBinder.collect(listener.getClass())) {
             SnowEvent anno = method.getAnnotation(SnowEvent.class);
 
             // 파라미터 확인 (하나여야 하며 Event를 상속받아야 함)
@@ -44,30 +62,39 @@ public final class EventRegistry {
 
             @SuppressWarnings("unchecked")
             Class<? extends Event> eventType = (Class<? extends Event>) method.getParameterTypes()[0];
-
-            // Events 빌더 구성
-            Events<? extends Event> builder = Events.listen(eventType, event -> {
-                        // 직접적인 method.invoke 대신 Reflection 유틸리티를 사용
-                        // setAccessible(true) 및 예외 처리를 내부적으로 수행합니다.
-                        Reflection.on(listener).call(method.getName(), event);
-                    }).plugin(plugin).priority(anno.priority()).ignoreCancelled(anno.ignoreCancelled()).cancel(anno.cancel()).limit(anno.limit());
-
-            // Duration 임포트 없이 Reflection으로 처리
-            // builder.expireAfter(Duration.ofSeconds(anno.expireSeconds()))와 동일한 로직
-            if (anno.expireSeconds() > 0) {
-                Object duration = Reflection.on(java.time.Duration.class).call("ofSeconds", anno.expireSeconds()).get();
-
-                // Reflection으로 builder의 expireAfter 메서드 호출
-                Reflection.on(builder).call("expireAfter", duration);
-            }
+            Consumer<Event> invoker = EventMethodBinder.bind(listener, method);
 
             // 디버그 설정
+            String name = listener.getClass().getSimpleName() + "#" + method.getName();
+            String source = null;
             if (anno.debug()) {
-                String source = anno.debugSource().isEmpty() ? listener.getClass().getSimpleName() + "#" + method.getName() : anno.debugSource();
-                builder.debug(source);
+                source = anno.debugSource().isEmpty() ? name : anno.debugSource();
             }
 
-            builder.register();
+            group.add(eventType, name, invoker, anno.priority(), anno.ignoreCancelled(), anno.cancel(), anno.limit(), anno.expireSeconds(), anno.permission(), source);
+        }
+        group.register();
+    }
+
+    /**
+     * 리스너 인스턴스로 등록된 모든 구독을 해제합니다.
+     * 모듈을 다시 불러오기 전에 이전 리스너의 구독을 정리할 때 사용합니다.
+     *
+     * @param listener {@link #register(Plugin, Object)}에 전달했던 인스턴스
+     * @return 해제된 구독 수
+     */
+    public static int unregister(Object listener) {
+        return EventSubscriptions.unregisterOwner(listener);
+    }
+
+    private static Optional<EventRegistrar> loadRegistrar(Class<?> type) {
+        try {
+            Class<?> generated = Class.forName(type.getName() + EventRegistrar.SUFFIX, true, type.getClassLoader());
+            if (!EventRegistrar.class.isAssignableFrom(generated)) return Optional.empty();
+            return Optional.of((EventRegistrar) generated.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // 생성된 클래스가 없거나 사용할 수 없으면 리플렉션 스캔으로 대체합니다.
+            return Optional.empty();
         }
     }
 }
@@ -0,0 +1,118 @@
+package io.github.snow1026.snowlib.internal.event;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventDispatcherTest {
+
+    @BeforeAll
+    static void installServer() throws ReflectiveOperationException {
+        if (Bukkit.getServer() != null) return;
+        // Bukkit.setServer는 빌드 정보를 읽으므로, 리스너 등록만 받아 주는 서버를 직접 넣습니다.
+        Server server = mock(Server.class);
+        when(server.getPluginManager()).thenReturn(mock(PluginManager.class));
+        Field field = Bukkit.class.getDeclaredField("server");
+        field.setAccessible(true);
+        field.set(null, server);
+    }
+
+    private static Plugin plugin() {
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.isEnabled()).thenReturn(true);
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("EventDispatcherTest"));
+        return plugin;
+    }
+
+    private static void add(EventDispatcher<TestEvent> dispatcher, Consumer<TestEvent> handler) {
+        dispatcher.add(SnowEventExecutor.create(dispatcher, EventRoute.GLOBAL, handler, null, false, 0, null, null, null, new FailureTracker(), null, null));
+    }
+
+    @Test
+    void ignoreCancelledSkipsSubscriptionsAfterCancel() {
+        EventDispatcher<TestEvent> dispatcher = EventDispatcher.of(TestEvent.class, EventPriority.NORMAL, true, plugin());
+        List<String> calls = new ArrayList<>();
+        add(dispatcher, e -> {
+            calls.add("first");
+            e.setCancelled(true);
+        });
+        add(dispatcher, e -> calls.add("second"));
+
+        dispatcher.execute(new SimpleEventListener(), new TestEvent());
+
+        assertEquals(List.of("first"), calls);
+    }
+
+    @Test
+    void cancelledEventStillReachesSubscriptionsWithoutIgnoreCancelled() {
+        EventDispatcher<TestEvent> dispatcher = EventDispatcher.of(TestEvent.class, EventPriority.NORMAL, false, plugin());
+        List<String> calls = new ArrayList<>();
+        add(dispatcher, e -> {
+            calls.add("first");
+            e.setCancelled(true);
+        });
+        add(dispatcher, e -> calls.add("second"));
+
+        dispatcher.execute(new SimpleEventListener(), new TestEvent());
+
+        assertEquals(List.of("first", "second"), calls);
+    }
+
+    @Test
+    void throwingExceptionHandlerDoesNotStopLaterSubscriptions() {
+        EventDispatcher<TestEvent> dispatcher = EventDispatcher.of(TestEvent.class, EventPriority.HIGH, false, plugin());
+        List<String> calls = new ArrayList<>();
+        dispatcher.add(SnowEventExecutor.create(dispatcher, EventRoute.GLOBAL, e -> {
+            throw new IllegalStateException("handler");
+        }, null, false, 0, null, null, (e, t) -> {
+            throw new RuntimeException(t);
+        }, new FailureTracker(), null, null));
+        add(dispatcher, e -> calls.add("second"));
+
+        dispatcher.execute(new SimpleEventListener(), new TestEvent());
+
+        assertEquals(List.of("second"), calls);
+    }
+
+    static final class TestEvent extends Event implements Cancellable {
+        private static final HandlerList HANDLERS = new HandlerList();
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+        @Override
+        public @NotNull HandlerList getHandlers() {
+            return HANDLERS;
+        }
+
+        public static HandlerList getHandlerList() {
+            return HANDLERS;
+        }
+    }
+}
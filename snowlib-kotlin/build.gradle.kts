@@ -6,6 +6,9 @@ plugins {
 dependencies {
     implementation(kotlin("stdlib"))
     implementation(kotlin("reflect"))
+    // 코루틴은 함께 묶지 않습니다. 다른 플러그인과 클래스가 충돌하지 않도록, eventFlow를 쓰는 플러그인이 직접 제공해야 합니다.
+    compileOnly("org.jetbrains.kotlinx:kotlinx-coroutines-core:1.10.2")
+    compileOnly("org.jetbrains.kotlinx:kotlinx-coroutines-jdk9:1.10.2")
 
     compileOnly("io.papermc.paper:paper-api:1.21.11-R0.1-SNAPSHOT")
     implementation(project(":snowlib-core"))
@@ -1,7 +1,10 @@
 package io.github.snow1026.snowlib.event
 
 import io.github.snow1026.snowlib.api.event.Events
+import io.github.snow1026.snowlib.api.event.OverflowStrategy
 import io.github.snow1026.snowlib.api.event.Subscription
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.jdk9.asFlow
 import org.bukkit.event.Event
 import org.bukkit.event.EventPriority
 import org.bukkit.plugin.Plugin
@@ -27,3 +30,25 @@ inline fun <reified T : Event> Plugin.listen(priority: EventPriority = EventPrio
  * 한번만 실행되는 이벤트를 위한 간축형 함수
  */
 inline fun <reified T : Event> Plugin.listenOnce(noinline handler: (T) -> Unit): Subscription = subscribe(handler).once().register()
+
+/**
+ * 스냅샷은 메인 스레드에서, 작업은 가상 스레드에서 실행하는 오프로드 구독 DSL입니다.
+ */
+inline fun <reified T : Event, S : Any> Plugin.offload(noinline snapshot: (T) -> S?, noinline worker: (S) -> Unit): Events<T> {
+    return Events.offload(T::class.java, snapshot, worker).plugin(this)
+}
+
+/**
+ * 이벤트 스냅샷을 모아 목록으로 처리하는 묶음 구독 DSL입니다.
+ */
+inline fun <reified T : Event, S : Any> Plugin.batch(noinline snapshot: (T) -> S?, noinline handler: (List<S>) -> Unit): Events<T> {
+    return Events.batch(T::class.java, snapshot, handler).plugin(this)
+}
+
+/**
+ * 이벤트 스냅샷을 코틀린 [Flow]로 수집합니다. 수집이 취소되면 이벤트 구독도 해제됩니다.
+ * kotlinx-coroutines는 SnowLib에 포함되지 않으므로, 사용하는 플러그인이 직접 제공해야 합니다.
+ */
+inline fun <reified T : Event, S : Any> Plugin.eventFlow(capacity: Int = 256, overflow: OverflowStrategy = OverflowStrategy.DROP_OLDEST, crossinline builder: Events<T>.() -> Unit = {}, noinline snapshot: (T) -> S?): Flow<S> {
+    return Events.listen(T::class.java).plugin(this).apply(builder).publish(snapshot, capacity, overflow).asFlow()
+}
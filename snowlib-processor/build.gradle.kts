@@ -0,0 +1,63 @@
+import com.vanniktech.maven.publish.JavaLibrary
+import com.vanniktech.maven.publish.JavadocJar
+
+// 컴파일 시점에만 사용되는 어노테이션 프로세서이므로 다른 모듈에 의존하지 않습니다.
+// 사용 예: annotationProcessor("io.github.snow1026:snowlib-processor:<version>")
+plugins {
+    id("java-library")
+    id("signing")
+    id("com.vanniktech.maven.publish")
+}
+
+group = rootProject.group
+version = rootProject.version
+
+dependencies {
+    // 생성된 등록기가 실제로 컴파일되는지 확인하려면 테스트 클래스패스에 코어와 Bukkit API가 필요합니다.
+    testImplementation(project(":snowlib-core"))
+    testImplementation("io.papermc.paper:paper-api:1.21.11-R0.1-SNAPSHOT")
+    testImplementation("com.google.testing.compile:compile-testing:0.21.0")
+    testImplementation(platform("org.junit:junit-bom:5.11.4"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+mavenPublishing {
+    publishToMavenCentral()
+    signAllPublications()
+    coordinates("io.github.snow1026", "snowlib-processor", version.toString())
+    configure(JavaLibrary( javadocJar = JavadocJar.Javadoc(), sourcesJar = true ))
+
+    pom {
+        name.set("SnowLib Processor")
+        description.set("Compile-time registrar generator for SnowLib @SnowEvent listeners")
+        url.set("https://github.com/snow1026/SnowLib")
+
+        licenses {
+            license {
+                name.set("GNU General Public License version 3")
+                url.set("https://opensource.org/licenses/GPL-3.0")
+            }
+        }
+
+        developers {
+            developer {
+                id.set("snow1026")
+                name.set("snow1026")
+            }
+        }
+
+        scm {
+            url.set("https://github.com/snow1026/SnowLib")
+            connection.set("scm:git:https://github.com/snow1026/SnowLib.git")
+        }
+    }
+}
+
+signing {
+    useGpgCmd()
+}
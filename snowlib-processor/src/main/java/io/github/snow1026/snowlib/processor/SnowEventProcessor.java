@@ -0,0 +1,244 @@
+package io.github.snow1026.snowlib.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code @SnowEvent} 메서드를 가진 클래스마다 등록 클래스를 생성하는 어노테이션 프로세서입니다.
+ * <p>
+ * 생성된 {@code <리스너>$$SnowEventRegistrar}는 이벤트 타입을 클래스 리터럴로, 핸들러를 메서드 참조로 직접 등록하므로
+ * {@code EventRegistry.register}가 실행 시점에 메서드를 스캔하거나 리플렉션으로 호출할 필요가 없습니다.
+ * 등록은 실행 시점 스캔과 같은 {@code EventMethodGroup}을 거치므로 같은 이벤트의 메서드들은 하나의 구독으로 합쳐집니다.
+ * 메서드 시그니처는 컴파일 시점에 검증되며, 생성된 클래스에서 접근할 수 없는 메서드(private 등)가 있는 리스너는
+ * 등록 클래스를 만들지 않고 기존의 실행 시점 바인딩을 그대로 사용합니다.
+ * </p>
+ */
+@SupportedAnnotationTypes(SnowEventProcessor.SNOW_EVENT)
+public final class SnowEventProcessor extends AbstractProcessor {
+    static final String SNOW_EVENT = "io.github.snow1026.snowlib.annotations.event.SnowEvent";
+    private static final String EVENT = "org.bukkit.event.Event";
+    private static final String SUFFIX = "$$SnowEventRegistrar";
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(SNOW_EVENT);
+        if (annotation == null) return false;
+
+        TypeElement event = processingEnv.getElementUtils().getTypeElement(EVENT);
+        if (event == null) {
+            error(annotation, "org.bukkit.event.Event is not on the compile classpath");
+            return false;
+        }
+
+        Set<TypeElement> owners = new LinkedHashSet<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+            Element owner = method.getEnclosingElement();
+            if (owner.getKind() == ElementKind.INTERFACE || owner.getKind() == ElementKind.ANNOTATION_TYPE) {
+                error(method, "@SnowEvent methods must be declared in a class, not an interface");
+                continue;
+            }
+            if (!isEventMethod(method, event)) {
+                error(method, "@SnowEvent method must take exactly one parameter assignable to " + EVENT);
+                continue;
+            }
+            owners.add((TypeElement) owner);
+        }
+
+        for (TypeElement owner : owners) {
+            if (!generated.add(owner.getQualifiedName().toString())) continue;
+            generate(owner, annotation, event);
+        }
+        return false;
+    }
+
+    private void generate(TypeElement owner, TypeElement annotation, TypeElement event) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(owner);
+        if (!isAccessible(owner, pkg)) {
+            note(owner, "not generating a registrar for an inaccessible listener type; runtime binding will be used");
+            return;
+        }
+
+        List<ExecutableElement> methods = collect(owner, annotation, event);
+        for (ExecutableElement method : methods) {
+            TypeElement declaring = (TypeElement) method.getEnclosingElement();
+            boolean visible = !method.getModifiers().contains(Modifier.PRIVATE)
+                    && (method.getModifiers().contains(Modifier.PUBLIC) || processingEnv.getElementUtils().getPackageOf(declaring).equals(pkg));
+            if (!visible || !isAccessible(declaring, pkg) || !isAccessible(eventTypeOf(method), pkg)) {
+                note(method, "not generating a registrar for " + owner.getSimpleName() + " because this method is not accessible; runtime binding will be used");
+                return;
+            }
+        }
+
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(owner).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, owner);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source(owner, packageName, simpleName, methods, annotation));
+            }
+        } catch (IOException e) {
+            error(owner, "Failed to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    // EventRegistry의 실행 시점 스캔과 같은 규칙으로, 하위 클래스부터 올라가며 재정의된 메서드를 한 번만 포함합니다.
+    private List<ExecutableElement> collect(TypeElement owner, TypeElement annotation, TypeElement event) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (TypeElement current = owner; current != null; current = superclassOf(current)) {
+            if (current.getQualifiedName().contentEquals("java.lang.Object")) break;
+
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                if (!hasAnnotation(method, annotation)) continue;
+
+                StringBuilder signature = new StringBuilder(method.getSimpleName());
+                method.getParameters().forEach(p -> signature.append(',').append(processingEnv.getTypeUtils().erasure(p.asType())));
+                if (!method.getModifiers().contains(Modifier.PRIVATE) && !seen.add(signature.toString())) continue;
+
+                // 실행 시점과 마찬가지로 잘못된 메서드는 건너뜁니다. (현재 컴파일 단위의 메서드는 이미 오류로 보고됨)
+                if (isEventMethod(method, event)) methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private String source(TypeElement owner, String packageName, String simpleName, List<ExecutableElement> methods, TypeElement annotation) {
+        String ownerType = owner.getQualifiedName().toString();
+        if (!owner.getTypeParameters().isEmpty()) {
+            ownerType += "<" + String.join(", ", owner.getTypeParameters().stream().map(p -> "?").toList()) + ">";
+        }
+
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) out.append("package ").append(packageName).append(";\n\n");
+        out.append("@javax.annotation.processing.Generated(\"").append(SnowEventProcessor.class.getName()).append("\")\n");
+        out.append("public final class ").append(simpleName).append(" implements io.github.snow1026.snowlib.registry.normal.EventRegistrar {\n");
+        out.append("    @Override\n");
+        out.append("    public void register(org.bukkit.plugin.Plugin plugin, Object listener) {\n");
+        if (methods.stream().anyMatch(m -> !m.getModifiers().contains(Modifier.STATIC))) {
+            out.append("        ").append(ownerType).append(" target = (").append(ownerType).append(") listener;\n");
+        }
+
+        out.append("        new io.github.snow1026.snowlib.registry.normal.EventMethodGroup(plugin, listener)\n");
+        for (ExecutableElement method : methods) {
+            Map<String, Object> values = valuesOf(method, annotation);
+            String receiver = method.getModifiers().contains(Modifier.STATIC) ? ((TypeElement) method.getEnclosingElement()).getQualifiedName().toString() : "target";
+
+            String name = owner.getSimpleName() + "#" + method.getSimpleName();
+            String source = "null";
+            if ((Boolean) values.get("debug")) {
+                String debugSource = (String) values.get("debugSource");
+                if (debugSource.isEmpty()) debugSource = name;
+                source = processingEnv.getElementUtils().getConstantExpression(debugSource);
+            }
+            // 이전 버전의 어노테이션에는 permission이 없을 수 있습니다.
+            Object permission = values.getOrDefault("permission", "");
+
+            out.append("                .add(").append(eventTypeOf(method).getQualifiedName()).append(".class, ")
+                    .append(processingEnv.getElementUtils().getConstantExpression(name)).append(", ")
+                    .append(receiver).append("::").append(method.getSimpleName()).append(", ")
+                    .append("org.bukkit.event.EventPriority.").append(values.get("priority")).append(", ")
+                    .append(values.get("ignoreCancelled")).append(", ")
+                    .append(values.get("cancel")).append(", ")
+                    .append(values.get("limit")).append(", ")
+                    .append(((Number) values.get("expireSeconds")).longValue()).append("L, ")
+                    .append(processingEnv.getElementUtils().getConstantExpression(permission)).append(", ")
+                    .append(source).append(")\n");
+        }
+        out.append("                .register();\n");
+
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private Map<String, Object> valuesOf(ExecutableElement method, TypeElement annotation) {
+        Map<String, Object> values = new HashMap<>();
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().asElement().equals(annotation)) continue;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+                Object value = entry.getValue().getValue();
+                // 열거형 상수는 VariableElement로 전달되므로 이름만 사용합니다.
+                values.put(entry.getKey().getSimpleName().toString(), value instanceof Element element ? element.getSimpleName().toString() : value);
+            }
+        }
+        return values;
+    }
+
+    private boolean isEventMethod(ExecutableElement method, TypeElement event) {
+        if (method.getParameters().size() != 1) return false;
+        TypeMirror parameter = processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType());
+        return parameter.getKind() == TypeKind.DECLARED && processingEnv.getTypeUtils().isAssignable(parameter, processingEnv.getTypeUtils().erasure(event.asType()));
+    }
+
+    private TypeElement eventTypeOf(ExecutableElement method) {
+        TypeMirror parameter = processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType());
+        return (TypeElement) ((DeclaredType) parameter).asElement();
+    }
+
+    private boolean hasAnnotation(Element element, TypeElement annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement().equals(annotation)) return true;
+        }
+        return false;
+    }
+
+    // 생성된 클래스(같은 패키지의 최상위 클래스)에서 이름으로 참조할 수 있는 타입인지 확인합니다.
+    private boolean isAccessible(TypeElement type, PackageElement from) {
+        for (Element current = type; current instanceof TypeElement element; current = current.getEnclosingElement()) {
+            NestingKind nesting = element.getNestingKind();
+            if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) return false;
+            if (element.getModifiers().contains(Modifier.PRIVATE)) return false;
+            if (!element.getModifiers().contains(Modifier.PUBLIC) && !processingEnv.getElementUtils().getPackageOf(element).equals(from)) return false;
+        }
+        return true;
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void note(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.snow1026.snowlib.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowEventProcessorTest {
+
+    private static Compilation compile(JavaFileObject... sources) {
+        return javac().withProcessors(new SnowEventProcessor()).compile(sources);
+    }
+
+    @Test
+    void generatesRegistrarThatCompiles() {
+        JavaFileObject base = JavaFileObjects.forSourceLines("demo.Base",
+                "package demo;",
+                "import io.github.snow1026.snowlib.annotations.event.SnowEvent;",
+                "import org.bukkit.event.player.PlayerQuitEvent;",
+                "public abstract class Base {",
+                "    @SnowEvent(limit = 3) void onQuit(PlayerQuitEvent e) {}",
+                "    @SnowEvent void overridden(PlayerQuitEvent e) {}",
+                "}");
+        JavaFileObject listener = JavaFileObjects.forSourceLines("demo.Listener",
+                "package demo;",
+                "import io.github.snow1026.snowlib.annotations.event.SnowEvent;",
+                "import org.bukkit.event.EventPriority;",
+                "import org.bukkit.event.player.PlayerMoveEvent;",
+                "import org.bukkit.event.player.PlayerQuitEvent;",
+                "public class Listener<T> extends Base {",
+                "    @SnowEvent(priority = EventPriority.HIGH, ignoreCancelled = true, expireSeconds = 30, debug = true)",
+                "    public void onMove(PlayerMoveEvent e) {}",
+                "    @SnowEvent(debug = true, debugSource = \"a\\\"b\") @Override void overridden(PlayerQuitEvent e) {}",
+                "    @SnowEvent static int onStatic(PlayerQuitEvent e) { return 0; }",
+                "}");
+
+        Compilation compilation = compile(base, listener);
+
+        // 생성된 등록기까지 오류 없이 컴파일되어야 합니다.
+        assertThat(compilation).succeededWithoutWarnings();
+        assertThat(compilation).generatedSourceFile("demo.Listener$$SnowEventRegistrar")
+                .contentsAsUtf8String()
+                .contains("demo.Listener<?> target = (demo.Listener<?>) listener;");
+        assertThat(compilation).generatedSourceFile("demo.Listener$$SnowEventRegistrar")
+                .contentsAsUtf8String()
+                .contains(".add(org.bukkit.event.player.PlayerMoveEvent.class, \"Listener#onMove\", target::onMove, "
+                        + "org.bukkit.event.EventPriority.HIGH, true, false, -1, 30L, \"\", \"Listener#onMove\")");
+        assertThat(compilation).generatedSourceFile("demo.Listener$$SnowEventRegistrar")
+                .contentsAsUtf8String()
+                .contains(".add(org.bukkit.event.player.PlayerQuitEvent.class, \"Listener#overridden\", target::overridden, "
+                        + "org.bukkit.event.EventPriority.NORMAL, false, false, -1, 0L, \"\", \"a\\\"b\")");
+        assertThat(compilation).generatedSourceFile("demo.Listener$$SnowEventRegistrar")
+                .contentsAsUtf8String()
+                .contains(".add(org.bukkit.event.player.PlayerQuitEvent.class, \"Listener#onStatic\", demo.Listener::onStatic, ");
+        // 상위 클래스의 메서드도 포함되고, 재정의된 메서드는 한 번만 등록됩니다.
+        assertThat(compilation).generatedSourceFile("demo.Listener$$SnowEventRegistrar")
+                .contentsAsUtf8String()
+                .contains(".add(org.bukkit.event.player.PlayerQuitEvent.class, \"Listener#onQuit\", target::onQuit, "
+                        + "org.bukkit.event.EventPriority.NORMAL, false, false, 3, 0L, \"\", null)");
+        assertThat(compilation).generatedSourceFile("demo.Base$$SnowEventRegistrar")
+                .contentsAsUtf8String()
+                .contains(".add(org.bukkit.event.player.PlayerQuitEvent.class, \"Base#overridden\", target::overridden, ");
+    }
+
+    @Test
+    void skipsInaccessibleListener() {
+        JavaFileObject listener = JavaFileObjects.forSourceLines("demo.Outer",
+                "package demo;",
+                "import io.github.snow1026.snowlib.annotations.event.SnowEvent;",
+                "import org.bukkit.event.player.PlayerQuitEvent;",
+                "public class Outer {",
+                "    private static class Hidden { @SnowEvent public void q(PlayerQuitEvent e) {} }",
+                "}");
+
+        Compilation compilation = compile(listener);
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).hadNoteContaining("runtime binding will be used");
+        assertTrue(compilation.generatedSourceFiles().isEmpty());
+    }
+
+    @Test
+    void rejectsMethodWithoutEventParameter() {
+        JavaFileObject listener = JavaFileObjects.forSourceLines("demo.Broken",
+                "package demo;",
+                "import io.github.snow1026.snowlib.annotations.event.SnowEvent;",
+                "public class Broken {",
+                "    @SnowEvent public void onNothing(String s) {}",
+                "}");
+
+        assertThat(compile(listener)).hadErrorContaining("@SnowEvent method must take exactly one parameter");
+    }
+
+    @Test
+    void rejectsInterfaceMethod() {
+        JavaFileObject listener = JavaFileObjects.forSourceLines("demo.Api",
+                "package demo;",
+                "import io.github.snow1026.snowlib.annotations.event.SnowEvent;",
+                "import org.bukkit.event.player.PlayerQuitEvent;",
+                "public interface Api {",
+                "    @SnowEvent default void onQuit(PlayerQuitEvent e) {}",
+                "}");
+
+        assertThat(compile(listener)).hadErrorContaining("must be declared in a class");
+    }
+}